@@ -0,0 +1,148 @@
+package algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * BatchMajority — majority vote over many small arrays in one call.
+ *
+ * Behavior:
+ *  - Results go into caller-supplied primitive arrays: values[i] holds the majority of
+ *    arrays[i] and bit i of found (word i / 64, bit i % 64) says whether it exists.
+ *    Nothing is allocated per array: no Optional, no boxing, no Metrics.
+ *  - The batch is split into ranges of whole 64-array words and spread over a work-stealing
+ *    {@link ForkJoinPool}, so every word of found is written by exactly one task.
+ *  - Each array runs the same passes as {@link BoyerMoore#findMajorityFast(int[])}.
+ *
+ * Complexity:
+ *  - Time: O(total elements)
+ *  - Space: O(log m) task stack for m arrays
+ */
+public final class BatchMajority {
+    /** Words of 64 arrays handled by one leaf task. */
+    static final int LEAF_WORDS = 4;
+
+    private BatchMajority() {
+    }
+
+    /**
+     * Results of {@link #findMajorityBatch(int[][])}.
+     *
+     * @param values values[i] is the majority of array i (0 when there is none)
+     * @param found  bit set of the arrays that have a majority
+     */
+    public record BatchResult(int[] values, long[] found) {
+        /** True if array i has a majority. */
+        public boolean isFound(int i) {
+            return BatchMajority.isFound(found, i);
+        }
+
+        /** Majority of array i; only meaningful when {@link #isFound(int)}. */
+        public int value(int i) {
+            return values[i];
+        }
+    }
+
+    /** Number of long words needed for the found bit set of count arrays. */
+    public static int foundWords(int count) {
+        return (count + 63) >>> 6;
+    }
+
+    /** Reads bit i of a found bit set. */
+    public static boolean isFound(long[] found, int i) {
+        return (found[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /** Allocates the output arrays and runs the batch in the common pool. */
+    public static BatchResult findMajorityBatch(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Input arrays must not be null");
+        }
+        int[] values = new int[arrays.length];
+        long[] found = new long[foundWords(arrays.length)];
+        findMajorityBatch(arrays, values, found, ForkJoinPool.commonPool());
+        return new BatchResult(values, found);
+    }
+
+    /**
+     * Finds the majority of every array and writes the results into values and found.
+     *
+     * @param arrays input arrays (neither the batch nor any array may be null)
+     * @param values output, length at least arrays.length
+     * @param found  output bit set, length at least {@link #foundWords(int)}; fully overwritten
+     * @param pool   pool to spread the batch over, or null to run on the calling thread
+     * @throws IllegalArgumentException if an input is null or an output is too short
+     */
+    public static void findMajorityBatch(int[][] arrays, int[] values, long[] found, ForkJoinPool pool) {
+        if (arrays == null || values == null || found == null) {
+            throw new IllegalArgumentException("Arrays and outputs must not be null");
+        }
+        for (int i = 0; i < arrays.length; i++) {
+            if (arrays[i] == null) {
+                throw new IllegalArgumentException("Input array " + i + " must not be null");
+            }
+        }
+        int words = foundWords(arrays.length);
+        if (values.length < arrays.length || found.length < words) {
+            throw new IllegalArgumentException("Output arrays are too short for " + arrays.length + " inputs");
+        }
+        if (pool == null || words <= LEAF_WORDS) {
+            //plain loop on the caller: compute() would fork into the common pool via invokeAll
+            processWords(arrays, values, found, 0, words);
+        } else {
+            pool.invoke(new BatchTask(arrays, values, found, 0, words));
+        }
+    }
+
+    /** Processes arrays [64 * fromWord, 64 * toWord) and writes found[fromWord, toWord). */
+    private static void processWords(int[][] arrays, int[] values, long[] found, int fromWord, int toWord) {
+        for (int w = fromWord; w < toWord; w++) {
+            long bits = 0;
+            int end = Math.min(arrays.length, (w + 1) << 6);
+            for (int i = w << 6; i < end; i++) {
+                int[] arr = arrays[i];
+                int n = arr.length;
+                if (n == 0) {
+                    values[i] = 0;
+                    continue;
+                }
+                int candidate = BoyerMoore.candidate(arr, 0, n);
+                if (BoyerMoore.confirmMajority(arr, 0, n, candidate, n / 2 + 1) >= 0) {
+                    values[i] = candidate;
+                    bits |= 1L << i;
+                } else {
+                    values[i] = 0;
+                }
+            }
+            found[w] = bits;
+        }
+    }
+
+    /** Processes arrays [64 * fromWord, 64 * toWord) and owns found[fromWord, toWord). */
+    private static final class BatchTask extends RecursiveAction {
+        private final int[][] arrays;
+        private final int[] values;
+        private final long[] found;
+        private final int fromWord;
+        private final int toWord;
+
+        BatchTask(int[][] arrays, int[] values, long[] found, int fromWord, int toWord) {
+            this.arrays = arrays;
+            this.values = values;
+            this.found = found;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > LEAF_WORDS) {
+                int mid = (fromWord + toWord) >>> 1;
+                invokeAll(new BatchTask(arrays, values, found, fromWord, mid),
+                        new BatchTask(arrays, values, found, mid, toWord));
+                return;
+            }
+            processWords(arrays, values, found, fromWord, toWord);
+        }
+    }
+}
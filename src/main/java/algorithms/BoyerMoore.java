@@ -1,8 +1,11 @@
 package algorithms;
 
+import utils.MajorityCallEvent;
+import utils.MajorityPhaseEvent;
 import utils.Metrics;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * BoyerMoore — baseline implementation of the Boyer–Moore majority vote algorithm.
@@ -23,8 +26,32 @@ import java.util.Optional;
  *  - arrayAccesses incremented each time we read arr[i]
  *  - comparisons incremented when we compare values (candidate == v and verification comparisons)
  *  - assignments incremented for candidate/count updates and resets
+ *
+ * Fast path:
+ *  - {@link #findMajorityFast(int[])} runs the same two passes without any Metrics calls
+ *    and without boxing, so the loops stay small enough for the JIT to unroll.
+ *    {@link #findMajorityPacked(int[])} returns the result as a {@link MajorityResult} long
+ *    and allocates nothing.
+ *    The instrumented {@link #findMajority(int[], Metrics)} is kept for the analysis tooling.
+ *  - For profiling without the counters, the fast path emits JFR events
+ *    ({@link utils.MajorityCallEvent}, {@link utils.MajorityPhaseEvent}) when they are enabled.
  */
 public class BoyerMoore {
+    /** Block size for the early-exit check of the uninstrumented verification pass. */
+    static final int VERIFY_BLOCK = 4096;
+
+    /** Metrics counter names for the path taken by {@link #findMajority(int[], Verification, Metrics)}. */
+    public static final String PATH_NO_CANDIDATE = "path.noCandidate";
+    public static final String PATH_ASSUMED = "path.assumed";
+    public static final String PATH_EXACT = "path.exact";
+    public static final String PATH_SAMPLE_REJECTED = "path.sampleRejected";
+    public static final String PATH_SAMPLE_THEN_EXACT = "path.sampleThenExact";
+    /** Engine name reported in JFR events of {@link #findMajorityPacked(int[])}. */
+    static final String ENGINE_NAME = "sequential";
+
+    /** Metrics counter: positions read by sampling checks. */
+    public static final String SAMPLED_ELEMENTS = "sampling.elements";
+
     private final Metrics metrics;
 
     BoyerMoore(Metrics metrics) {
@@ -35,7 +62,7 @@ public class BoyerMoore {
      * Finds the majority element (element that appears > n/2 times) if one exists.
      *
      * @param arr input array (must not be null)
-     * @param metrics   metrics collector; if null a new Metrics instance will be created and used
+     * @param metrics   metrics collector; if null the no-op sink is used
      * @return Optional.of(majority) if majority exists, otherwise Optional.empty()
      * @throws IllegalArgumentException if arr is null
      */
@@ -45,9 +72,16 @@ public class BoyerMoore {
         }
         // ensure metrics object exists to avoid NPEs
         if(metrics == null){
-            metrics = new Metrics();
+            metrics = Metrics.noOp();
+        }
+        try {
+            return findMajorityInstrumented(arr, metrics);
+        } finally {
+            metrics.flush(); // publish counts buffered by this thread
         }
+    }
 
+    private static Optional<Integer> findMajorityInstrumented(int[] arr, Metrics metrics){
         //Edge cases
         if (arr.length == 0) {
             return Optional.empty();
@@ -125,5 +159,186 @@ public class BoyerMoore {
         }
     }
 
+    /**
+     * Finds the majority element without any instrumentation.
+     * Same result as {@link #findMajority(int[], Metrics)}, but no counters are touched
+     * and the result is not boxed into an Integer.
+     *
+     * @param arr input array (must not be null)
+     * @return OptionalInt.of(majority) if majority exists, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static OptionalInt findMajorityFast(int[] arr) {
+        return MajorityResult.toOptional(findMajorityPacked(arr));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajorityFast(int[])}.
+     *
+     * @param arr input array (must not be null)
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static long findMajorityPacked(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int n = arr.length;
+        if (n == 0) {
+            return MajorityResult.NONE;
+        }
+        MajorityCallEvent call = new MajorityCallEvent();
+        call.begin();
+        MajorityPhaseEvent phase = new MajorityPhaseEvent();
+        phase.begin();
+        int candidate = candidate(arr, 0, n);
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.CANDIDATE, n, 1, -1);
+
+        phase = new MajorityPhaseEvent();
+        phase.begin();
+        int stop = confirmMajority(arr, 0, n, candidate, n / 2 + 1);
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.VERIFY, n, 1, stop);
+        call.end(ENGINE_NAME, n, 1, stop, stop >= 0);
+        return stop >= 0 ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+
+    /**
+     * Finds the majority element with an explicit verification mode.
+     *
+     * Metrics integration: array accesses of both passes (added in bulk) and one named
+     * counter per call recording the path taken ({@link #PATH_ASSUMED}, {@link #PATH_EXACT},
+     * {@link #PATH_SAMPLE_REJECTED}, {@link #PATH_SAMPLE_THEN_EXACT} or {@link #PATH_NO_CANDIDATE}).
+     * SAMPLED uses {@link SamplingPolicy#DEFAULT}: a true majority is rejected with probability
+     * at most 1e-9; sampled positions are counted under {@link #SAMPLED_ELEMENTS}.
+     *
+     * @param arr     input array (must not be null)
+     * @param mode    how to check the candidate (must not be null)
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     * @throws IllegalArgumentException if arr or mode is null
+     */
+    public static long findMajority(int[] arr, Verification mode, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Verification mode must not be null");
+        }
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        int n = arr.length;
+        long candidate = candidatePacked(arr, 0, n);
+        metrics.addArrayAccesses(n);
+        SamplingPolicy sampling = SamplingPolicy.DEFAULT;
+        boolean sampled = mode == Verification.SAMPLED && sampling.appliesTo(n);
+        long result;
+        if (!MajorityResult.isPresent(candidate)) {
+            metrics.incCounter(PATH_NO_CANDIDATE);
+            result = MajorityResult.NONE;
+        } else if (mode == Verification.ASSUME_MAJORITY) {
+            metrics.incCounter(PATH_ASSUMED);
+            result = candidate;
+        } else if (sampled && sampleRejects(arr, (int) candidate, sampling, metrics)) {
+            metrics.incCounter(PATH_SAMPLE_REJECTED);
+            result = MajorityResult.NONE;
+        } else {
+            metrics.incCounter(sampled ? PATH_SAMPLE_THEN_EXACT : PATH_EXACT);
+            int stop = confirmMajority(arr, 0, n, (int) candidate, n / 2 + 1);
+            metrics.addArrayAccesses(stop >= 0 ? stop : n);
+            result = stop >= 0 ? candidate : MajorityResult.NONE;
+        }
+        metrics.flush();
+        return result;
+    }
+
+    /** Counts candidate at the policy's random positions; true if that rules out a majority. */
+    private static boolean sampleRejects(int[] arr, int candidate, SamplingPolicy sampling, Metrics metrics) {
+        int hits = sampling.sampleHits(arr, candidate, sampling.random());
+        metrics.addArrayAccesses(sampling.sampleSize());
+        metrics.addCounter(SAMPLED_ELEMENTS, sampling.sampleSize());
+        return hits < sampling.rejectBelow();
+    }
+
+    /**
+     * First pass without metrics, keeping track of whether anything survived.
+     *
+     * @return packed candidate of arr[from, to), or {@link MajorityResult#NONE} if every element was cancelled
+     */
+    static long candidatePacked(int[] arr, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int v = arr[i];
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return count == 0 ? MajorityResult.NONE : MajorityResult.of(candidate);
+    }
+
+    /**
+     * First pass without metrics: returns the Boyer–Moore candidate of arr[from, to).
+     * The result is meaningless for an empty range.
+     */
+    static int candidate(int[] arr, int from, int to) {
+        int candidate = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int v = arr[i];
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Counts occurrences of value in arr[from, to).
+     * The loop has no early exit so the JIT can unroll and vectorize it.
+     */
+    static int countOccurrences(int[] arr, int from, int to, int value) {
+        int occurrences = 0;
+        for (int i = from; i < to; i++) {
+            if (arr[i] == value) {
+                occurrences++;
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Second pass without metrics: counts candidate in blocks of {@link #VERIFY_BLOCK}
+     * elements and stops as soon as {@code needed} occurrences have been seen.
+     * Checking once per block keeps the inner loop branch-free.
+     *
+     * @return index where the scan stopped (exclusive) if confirmed, otherwise -1
+     */
+    static int confirmMajority(int[] arr, int from, int to, int candidate, int needed) {
+        int occurrences = 0;
+        for (int start = from; start < to; start += VERIFY_BLOCK) {
+            int end = Math.min(to, start + VERIFY_BLOCK);
+            occurrences += countOccurrences(arr, start, end, candidate);
+            if (occurrences >= needed) {
+                return end;
+            }
+            // not enough elements left to reach the threshold
+            if (occurrences + (to - end) < needed) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
 
 }
@@ -0,0 +1,242 @@
+package algorithms;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * ConcurrentMajorityAccumulator — Boyer–Moore candidate pass fed by many producer threads at once.
+ *
+ * Behavior:
+ *  - Every producer owns a {@link Producer} cell holding its own (candidate, count) state packed
+ *    into one long ({@link Vote#pack}). Only the owner writes it (plain read, release store), so
+ *    feeding a value takes no lock and no CAS; cells are padded to sit on their own cache lines.
+ *  - Queries (under the accumulator's lock, which producers never take) read every registered
+ *    cell (acquire) and merge the states with {@link Vote#merge(Vote, Vote)}, whose long counts
+ *    cannot overflow however many producers contribute. Each cell is read atomically, so while
+ *    producers are still running the result is the candidate of some prefix of every producer's
+ *    values; once they are done it is the candidate of everything fed.
+ *  - Verification is deferred: {@link #verify(Supplier)} replays the source, as with
+ *    {@link MajorityAccumulator#verify(Supplier)}.
+ *  - {@link #accept(int)} uses a per-thread producer, so plain threads can feed the accumulator
+ *    without handling cells themselves. Once such a thread has terminated, its cell is folded
+ *    into a retired state by the next query or registration and dropped, so pools that replace
+ *    their threads, or one virtual thread per task, do not grow the accumulator. Handles from
+ *    {@link #producer()} are not tied to a thread and stay registered.
+ *
+ * Complexity:
+ *  - accept: O(1), no contention between producers
+ *  - query: O(live thread cells + explicit producers)
+ *
+ * Limits: a producer's surviving count must stay below 2^31 (an overflow throws ArithmeticException).
+ */
+public class ConcurrentMajorityAccumulator implements IntConsumer {
+    /** Per-thread cells registered before the first sweep on registration. */
+    private static final int SWEEP_MIN = 64;
+
+    //cells and retired state are guarded by this; producers only ever write their own cell
+    private final List<Producer> producers = new ArrayList<>();
+    private final ThreadLocal<Producer> local = ThreadLocal.withInitial(() -> register(Thread.currentThread()));
+    private Vote retired = Vote.EMPTY;
+    private long retiredSeen;
+    private int threadCells;
+    private int sweepAt = SWEEP_MIN;
+
+    /**
+     * Registers a new producer cell. A handle must only be fed by one thread at a time;
+     * it stays part of the accumulator for its whole lifetime.
+     */
+    public Producer producer() {
+        return register(null);
+    }
+
+    private synchronized Producer register(Thread owner) {
+        if (owner != null && ++threadCells >= sweepAt) {
+            //amortized: sweep again once the thread cells have doubled since the last sweep
+            sweep();
+            sweepAt = Math.max(SWEEP_MIN, 2 * threadCells);
+        }
+        Producer p = new Producer(owner);
+        producers.add(p);
+        return p;
+    }
+
+    /**
+     * Folds the cells of terminated threads into the retired state and drops them. A thread
+     * seen as not alive has finished all its writes (JLS 17.4.4), so its cell is final.
+     */
+    private void sweep() {
+        int kept = 0;
+        for (Producer p : producers) {
+            if (p.owner == null || p.owner.isAlive()) {
+                producers.set(kept++, p);
+                continue;
+            }
+            retired = Vote.merge(retired, p.vote());
+            retiredSeen += (long) Producer.SEEN.getOpaque(p);
+            threadCells--;
+        }
+        producers.subList(kept, producers.size()).clear();
+    }
+
+    /** Feeds one value through the calling thread's own producer. */
+    @Override
+    public void accept(int value) {
+        local.get().accept(value);
+    }
+
+    /** Number of registered producers (cells of finished threads count until a query folds them). */
+    public synchronized int producers() {
+        return producers.size();
+    }
+
+    /** Merged (candidate, count) state of all producers, finished threads included. */
+    public synchronized Vote vote() {
+        sweep();
+        Vote vote = retired;
+        for (Producer p : producers) {
+            vote = Vote.merge(vote, p.vote());
+        }
+        return vote;
+    }
+
+    /** Current candidate as a packed {@link MajorityResult}, NONE when everything cancelled out. */
+    public long candidatePacked() {
+        Vote v = vote();
+        return v.isEmpty() ? MajorityResult.NONE : MajorityResult.of(v.candidate());
+    }
+
+    /** Current candidate, or empty when every value seen so far was cancelled out. */
+    public OptionalInt candidate() {
+        return MajorityResult.toOptional(candidatePacked());
+    }
+
+    /** Number of values fed by all producers so far. */
+    public synchronized long seen() {
+        sweep();
+        long seen = retiredSeen;
+        for (Producer p : producers) {
+            seen += (long) Producer.SEEN.getOpaque(p);
+        }
+        return seen;
+    }
+
+    /**
+     * Verification mode: re-reads the source and checks that the merged candidate occurs in
+     * more than half of the values it yields. Call it once the producers are done.
+     *
+     * @param replay supplies a fresh stream over the same values on every call
+     * @return OptionalInt.of(majority) if the candidate is confirmed, otherwise OptionalInt.empty()
+     */
+    public OptionalInt verify(Supplier<? extends IntStream> replay) {
+        long packed = candidatePacked();
+        if (!MajorityResult.isPresent(packed)) {
+            return OptionalInt.empty();
+        }
+        int c = MajorityResult.value(packed);
+        long[] tally = new long[2]; // [0] = values read, [1] = occurrences of c
+        try (IntStream values = replay.get()) {
+            values.sequential().forEach(v -> {
+                tally[0]++;
+                if (v == c) {
+                    tally[1]++;
+                }
+            });
+        }
+        return tally[1] > tally[0] / 2 ? OptionalInt.of(c) : OptionalInt.empty();
+    }
+
+    //padding on both sides keeps neighbouring cells (and their headers) off the state's cache line
+    abstract static class LeftPad {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    abstract static class Cell extends LeftPad {
+        long state;
+        long seen;
+    }
+
+    /** One producer's share of the accumulator; feed it from a single thread. */
+    public static final class Producer extends Cell implements IntConsumer {
+        static final VarHandle STATE;
+        static final VarHandle SEEN;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                STATE = lookup.findVarHandle(Cell.class, "state", long.class);
+                SEEN = lookup.findVarHandle(Cell.class, "seen", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        /** Thread behind a per-thread cell, null for a {@link #producer()} handle. */
+        private final Thread owner;
+
+        private Producer(Thread owner) {
+            this.owner = owner;
+        }
+
+        /** This producer's published state (acquire). */
+        Vote vote() {
+            return Vote.unpack((long) STATE.getAcquire(this));
+        }
+
+        /** Feeds one value. */
+        @Override
+        public void accept(int value) {
+            long s = state;
+            int c = Vote.candidateOf(s);
+            long k = Vote.countOf(s);
+            if (k == 0) {
+                c = value;
+                k = 1;
+            } else if (value == c) {
+                if (++k > Integer.MAX_VALUE) {
+                    throw new ArithmeticException("Producer count overflow");
+                }
+            } else {
+                k--;
+            }
+            STATE.setRelease(this, Vote.pack(c, k));
+            SEEN.setOpaque(this, seen + 1);
+        }
+
+        /**
+         * Feeds chunk[off, off + len) and publishes the state once.
+         *
+         * @throws IndexOutOfBoundsException if the range is outside the chunk
+         */
+        public void accept(int[] chunk, int off, int len) {
+            Objects.checkFromIndexSize(off, len, chunk.length);
+            long s = state;
+            int c = Vote.candidateOf(s);
+            long k = Vote.countOf(s);
+            for (int i = off, end = off + len; i < end; i++) {
+                int v = chunk[i];
+                if (k == 0) {
+                    c = v;
+                    k = 1;
+                } else if (v == c) {
+                    k++;
+                } else {
+                    k--;
+                }
+            }
+            if (k > Integer.MAX_VALUE) {
+                throw new ArithmeticException("Producer count overflow");
+            }
+            STATE.setRelease(this, Vote.pack(c, k));
+            SEEN.setOpaque(this, seen + len);
+        }
+    }
+}
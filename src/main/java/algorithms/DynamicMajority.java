@@ -0,0 +1,316 @@
+package algorithms;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+
+/**
+ * DynamicMajority — majority of any range of an int array that receives point updates.
+ *
+ * Behavior:
+ *  - A segment tree stores the Boyer–Moore (candidate, count) pair of every node, so the
+ *    candidate of arr[l..r) is the {@link Vote#mergePacked(long, long)} of O(log n) node pairs.
+ *  - For verification every value keeps the set of its positions in a treap with subtree
+ *    sizes; the occurrences of the candidate in [l, r) are two rank queries.
+ *  - All nodes live in primitive arrays. Position i is always treap node i + 1, so an update
+ *    only moves that node from the old value's treap to the new one; the structure itself
+ *    never grows after construction (except when a new value grows the root map), and
+ *    queries merge packed votes without allocating.
+ *
+ * Complexity:
+ *  - Build: O(n) expected
+ *  - update / majority / count: O(log n) expected
+ *  - Space: O(n)
+ *
+ * Not thread-safe.
+ */
+public class DynamicMajority {
+    private final int n;
+    private final int[] values;
+
+    //segment tree over leaves [leaves, 2 * leaves); padding leaves have count 0
+    private final int leaves;
+    private final int[] candidates;
+    private final int[] counts;
+
+    //treap nodes 1..n, node 0 is the empty tree
+    private final int[] priority;
+    private final int[] left;
+    private final int[] right;
+    private final int[] subtree;
+    private final IntCountMap roots;
+
+    private int splitLeft;
+    private int splitRight;
+
+    /**
+     * Builds the structure over a copy of arr.
+     *
+     * @param arr initial contents (must not be null)
+     * @throws IllegalArgumentException if arr is null
+     */
+    public DynamicMajority(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        n = arr.length;
+        values = arr.clone();
+
+        leaves = Integer.highestOneBit(Math.max(1, n - 1)) << 1;
+        candidates = new int[2 * leaves];
+        counts = new int[2 * leaves];
+        for (int i = 0; i < n; i++) {
+            candidates[leaves + i] = values[i];
+            counts[leaves + i] = 1;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            pull(node);
+        }
+
+        priority = new int[n + 1];
+        left = new int[n + 1];
+        right = new int[n + 1];
+        subtree = new int[n + 1];
+        SplittableRandom random = new SplittableRandom();
+        for (int node = 1; node <= n; node++) {
+            priority[node] = random.nextInt();
+            subtree[node] = 1;
+        }
+        roots = new IntCountMap(16);
+        buildTreaps();
+    }
+
+    /** Groups positions by value (counting sort over dense ids) and builds each treap in linear time. */
+    private void buildTreaps() {
+        //first pass - dense ids per value (stored as id + 1) and group sizes
+        int[] ids = new int[n];
+        int[] start = new int[n + 1];
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            int id = roots.get(values[i]);
+            if (id == 0) {
+                id = ++distinct;
+                roots.put(values[i], id);
+            }
+            ids[i] = id - 1;
+            start[id]++;
+        }
+        for (int id = 0; id < distinct; id++) {
+            start[id + 1] += start[id];
+        }
+
+        //second pass - positions grouped by id, ascending within each group
+        int[] grouped = new int[n];
+        int[] next = start.clone();
+        for (int i = 0; i < n; i++) {
+            grouped[next[ids[i]]++] = i;
+        }
+
+        //third pass - one Cartesian tree (max-heap on priority) per group, built with a stack
+        int[] stack = new int[n];
+        for (int id = 0; id < distinct; id++) {
+            int top = -1;
+            for (int k = start[id]; k < start[id + 1]; k++) {
+                int node = grouped[k] + 1;
+                int last = 0;
+                while (top >= 0 && priority[stack[top]] < priority[node]) {
+                    last = stack[top--];
+                    subtree[last] = 1 + subtree[left[last]] + subtree[right[last]];
+                }
+                left[node] = last;
+                if (top >= 0) {
+                    right[stack[top]] = node;
+                }
+                stack[++top] = node;
+            }
+            while (top > 0) {
+                int node = stack[top--];
+                subtree[node] = 1 + subtree[left[node]] + subtree[right[node]];
+            }
+            int root = stack[0];
+            subtree[root] = 1 + subtree[left[root]] + subtree[right[root]];
+            roots.put(values[root - 1], root);
+        }
+    }
+
+    /** Number of elements. */
+    public int size() {
+        return n;
+    }
+
+    /** Current value at position i. */
+    public int get(int i) {
+        return values[Objects.checkIndex(i, n)];
+    }
+
+    /**
+     * Sets arr[i] = x.
+     *
+     * @throws IndexOutOfBoundsException if i is outside [0, size())
+     */
+    public void update(int i, int x) {
+        Objects.checkIndex(i, n);
+        int old = values[i];
+        if (old == x) {
+            return;
+        }
+        values[i] = x;
+
+        int node = i + 1;
+        roots.put(old, remove(roots.get(old), i));
+        left[node] = 0;
+        right[node] = 0;
+        subtree[node] = 1;
+        roots.put(x, insert(roots.get(x), node));
+
+        int leaf = leaves + i;
+        candidates[leaf] = x;
+        for (leaf >>= 1; leaf >= 1; leaf >>= 1) {
+            pull(leaf);
+        }
+    }
+
+    /**
+     * Majority of arr[from..to).
+     *
+     * @return a {@link MajorityResult}: the value occurring more than (to - from) / 2 times, or NONE
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public long majorityPacked(int from, int to) {
+        Objects.checkFromToIndex(from, to, n);
+        long vote = 0; // empty
+        for (int lo = from + leaves, hi = to + leaves; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) {
+                vote = Vote.mergePacked(vote, node(lo++));
+            }
+            if ((hi & 1) == 1) {
+                vote = Vote.mergePacked(vote, node(--hi));
+            }
+        }
+        if (Vote.countOf(vote) == 0) {
+            return MajorityResult.NONE;
+        }
+        int candidate = Vote.candidateOf(vote);
+        return occurrences(candidate, from, to) > (to - from) / 2 ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+
+    /** Majority of arr[from..to), see {@link #majorityPacked(int, int)}. */
+    public OptionalInt majority(int from, int to) {
+        return MajorityResult.toOptional(majorityPacked(from, to));
+    }
+
+    /** Majority of the whole array. */
+    public OptionalInt majority() {
+        return majority(0, n);
+    }
+
+    /**
+     * Number of positions in [from, to) holding value.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public int count(int value, int from, int to) {
+        Objects.checkFromToIndex(from, to, n);
+        return occurrences(value, from, to);
+    }
+
+    private int occurrences(int value, int from, int to) {
+        int root = roots.get(value);
+        return countBelow(root, to) - countBelow(root, from);
+    }
+
+    private void pull(int node) {
+        long merged = Vote.mergePacked(node(2 * node), node(2 * node + 1));
+        candidates[node] = Vote.candidateOf(merged);
+        counts[node] = (int) Vote.countOf(merged);
+    }
+
+    /** Packed vote of a tree node. */
+    private long node(int node) {
+        return Vote.pack(candidates[node], counts[node]);
+    }
+
+    //treap operations; the key of node t is its position t - 1
+
+    /** Number of positions below pos in the treap rooted at t. */
+    private int countBelow(int t, int pos) {
+        int below = 0;
+        while (t != 0) {
+            if (t - 1 < pos) {
+                below += subtree[left[t]] + 1;
+                t = right[t];
+            } else {
+                t = left[t];
+            }
+        }
+        return below;
+    }
+
+    private int insert(int t, int node) {
+        if (t == 0) {
+            return node;
+        }
+        if (priority[node] > priority[t]) {
+            split(t, node - 1);
+            left[node] = splitLeft;
+            right[node] = splitRight;
+            subtree[node] = 1 + subtree[splitLeft] + subtree[splitRight];
+            return node;
+        }
+        if (node < t) {
+            left[t] = insert(left[t], node);
+        } else {
+            right[t] = insert(right[t], node);
+        }
+        subtree[t]++;
+        return t;
+    }
+
+    private int remove(int t, int pos) {
+        if (t - 1 == pos) {
+            return merge(left[t], right[t]);
+        }
+        if (pos < t - 1) {
+            left[t] = remove(left[t], pos);
+        } else {
+            right[t] = remove(right[t], pos);
+        }
+        subtree[t]--;
+        return t;
+    }
+
+    /** Splits t into keys below pos (splitLeft) and keys above pos (splitRight). */
+    private void split(int t, int pos) {
+        if (t == 0) {
+            splitLeft = 0;
+            splitRight = 0;
+        } else if (t - 1 < pos) {
+            split(right[t], pos);
+            right[t] = splitLeft;
+            subtree[t] = 1 + subtree[left[t]] + subtree[right[t]];
+            splitLeft = t;
+        } else {
+            split(left[t], pos);
+            left[t] = splitRight;
+            subtree[t] = 1 + subtree[left[t]] + subtree[right[t]];
+            splitRight = t;
+        }
+    }
+
+    private int merge(int a, int b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        if (priority[a] > priority[b]) {
+            right[a] = merge(right[a], b);
+            subtree[a] = 1 + subtree[left[a]] + subtree[right[a]];
+            return a;
+        }
+        left[b] = merge(a, left[b]);
+        subtree[b] = 1 + subtree[left[b]] + subtree[right[b]];
+        return b;
+    }
+}
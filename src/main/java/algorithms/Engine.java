@@ -0,0 +1,76 @@
+package algorithms;
+
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Engine — selectable uninstrumented majority-vote implementations.
+ *
+ *  - SEQUENTIAL: {@link BoyerMoore#findMajorityFast(int[])}
+ *  - PARALLEL:   {@link ParallelBoyerMoore}, runs in the given pool
+ *  - SIMD:       {@link VectorBoyerMoore}; falls back to SEQUENTIAL when the
+ *                jdk.incubator.vector module is not loaded or has no vector hardware
+ */
+public enum Engine {
+    SEQUENTIAL {
+        @Override
+        public long findMajorityPacked(int[] arr, ForkJoinPool pool) {
+            return BoyerMoore.findMajorityPacked(arr);
+        }
+    },
+    PARALLEL {
+        @Override
+        public long findMajorityPacked(int[] arr, ForkJoinPool pool) {
+            return ParallelBoyerMoore.findMajorityPacked(arr, pool, null);
+        }
+    },
+    SIMD {
+        @Override
+        public long findMajorityPacked(int[] arr, ForkJoinPool pool) {
+            return SIMD_AVAILABLE ? VectorBoyerMoore.findMajorityPacked(arr) : BoyerMoore.findMajorityPacked(arr);
+        }
+    };
+
+    /**
+     * Checked before VectorBoyerMoore is touched, so the class is never loaded
+     * when the incubator module is absent.
+     */
+    static final boolean SIMD_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && VectorBoyerMoore.isAccelerated();
+
+    /**
+     * Finds the majority element (element that appears > n/2 times) if one exists.
+     *
+     * @param arr  input array (must not be null)
+     * @param pool pool used by PARALLEL; ignored by the other engines
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public abstract long findMajorityPacked(int[] arr, ForkJoinPool pool);
+
+    /**
+     * Same as {@link #findMajorityPacked(int[], ForkJoinPool)}, converted to an OptionalInt.
+     */
+    public OptionalInt findMajority(int[] arr, ForkJoinPool pool) {
+        return MajorityResult.toOptional(findMajorityPacked(arr, pool));
+    }
+
+    /** Same as {@link #findMajority(int[], ForkJoinPool)} with the common pool. */
+    public OptionalInt findMajority(int[] arr) {
+        return findMajority(arr, ForkJoinPool.commonPool());
+    }
+
+    /** True when SIMD runs the vector implementation rather than the scalar fallback. */
+    public static boolean isSimdAvailable() {
+        return SIMD_AVAILABLE;
+    }
+
+    /**
+     * Parses an engine name case-insensitively ("sequential", "parallel", "simd").
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static Engine of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,323 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * HeavyHitters — Misra–Gries (generalized Boyer–Moore) search for every element that occurs
+ * more than n/k times. k = 2 is the majority problem.
+ *
+ * Behavior:
+ *  - First pass: a {@link Summary} keeps at most k-1 (value, count) counters in primitive arrays.
+ *    A tracked value increments its counter, an untracked value takes a free counter, otherwise
+ *    all counters are decremented (the value and k-1 others cancel out). Every element with more
+ *    than n/k occurrences is guaranteed to survive.
+ *  - Parallel mode: chunk summaries are merged with the mergeable-summaries rule (add counters,
+ *    then subtract the k-th largest count and drop non-positive counters).
+ *  - Second pass: exact counts of the at most k-1 survivors; only those above n/k are returned.
+ *
+ * Complexity:
+ *  - Time: O(n·k) worst case (linear scan of the k-1 counters per element)
+ *  - Space: O(min(k, n)) extra (counter tables grow with the distinct values seen)
+ *
+ * Metrics integration:
+ *  - arrayAccesses: n per pass
+ *  - comparisons: counter lookups, counted locally and added in bulk
+ *  - assignments: counter increments, decrements and replacements
+ */
+public final class HeavyHitters {
+    /** Inputs shorter than this are summarized sequentially even in parallel mode. */
+    public static final int SEQUENTIAL_THRESHOLD = ParallelBoyerMoore.SEQUENTIAL_THRESHOLD;
+
+    private HeavyHitters() {
+    }
+
+    /**
+     * Finds every element occurring more than n/k times.
+     *
+     * @param arr     input array (must not be null)
+     * @param k       divisor of the threshold, at least 2
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return the heavy hitters in ascending order (empty if there are none)
+     * @throws IllegalArgumentException if arr is null or k < 2
+     */
+    public static int[] find(int[] arr, int k, Metrics metrics) {
+        check(arr, k);
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        Summary summary = Summary.of(arr, 0, arr.length, k);
+        return verify(arr, summary, candidates -> countAll(arr, 0, arr.length, candidates), k, metrics);
+    }
+
+    /**
+     * Parallel version of {@link #find(int[], int, Metrics)}: chunk summaries are built and merged
+     * in the pool, and the survivors are counted in parallel.
+     *
+     * @throws IllegalArgumentException if arr or pool is null, or k < 2
+     */
+    public static int[] find(int[] arr, int k, ForkJoinPool pool, Metrics metrics) {
+        check(arr, k);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (arr.length < SEQUENTIAL_THRESHOLD) {
+            return find(arr, k, metrics);
+        }
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        int chunk = ParallelBoyerMoore.chunkSize(arr.length, pool.getParallelism());
+        Summary summary = pool.invoke(new SummaryTask(arr, 0, arr.length, k, chunk));
+        return verify(arr, summary,
+                candidates -> pool.invoke(new CountTask(arr, 0, arr.length, candidates, chunk)), k, metrics);
+    }
+
+    private static void check(int[] arr, int k) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2, got " + k);
+        }
+    }
+
+    /** Counts occurrences of every candidate in some way (sequentially or in a pool). */
+    private interface Counter {
+        long[] count(int[] candidates);
+    }
+
+    private static int[] verify(int[] arr, Summary summary, Counter counter, int k, Metrics metrics) {
+        long n = arr.length;
+        metrics.addArrayAccesses(n);
+        metrics.addComparisons(summary.comparisons);
+        metrics.addAssignments(summary.assignments);
+
+        int[] candidates = summary.values();
+        if (candidates.length == 0) {
+            metrics.flush();
+            return candidates;
+        }
+        long[] occurrences = counter.count(candidates);
+        metrics.addArrayAccesses(n);
+        metrics.addComparisons(n * candidates.length);
+
+        int found = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (occurrences[i] * k > n) {
+                candidates[found++] = candidates[i];
+            }
+        }
+        metrics.flush();
+        int[] result = Arrays.copyOf(candidates, found);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /** Exact occurrences of each candidate in arr[from, to). */
+    static long[] countAll(int[] arr, int from, int to, int[] candidates) {
+        long[] counts = new long[candidates.length];
+        for (int i = from; i < to; i++) {
+            int v = arr[i];
+            for (int c = 0; c < candidates.length; c++) {
+                if (candidates[c] == v) {
+                    counts[c]++;
+                    break;
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Summary — Misra–Gries counters for part of the input: at most k-1 (value, count) pairs
+     * stored in parallel primitive arrays, no boxing.
+     */
+    public static final class Summary {
+        /** Slots allocated up front; the tables grow from here as distinct values arrive. */
+        private static final int INITIAL_SLOTS = 16;
+
+        private final int capacity;
+        private int[] keys;
+        private long[] counts;
+        private int size;
+        long comparisons;
+        long assignments;
+
+        Summary(int k) {
+            this.capacity = k - 1;
+            // never more slots than distinct values seen, so a huge k costs nothing up front
+            int initial = Math.min(capacity, INITIAL_SLOTS);
+            this.keys = new int[initial];
+            this.counts = new long[initial];
+        }
+
+        /** Grows the tables to hold at least needed counters (up to two full summaries while merging). */
+        private void ensureRoom(int needed) {
+            if (needed > keys.length) {
+                int grown = (int) Math.min(Math.max(2L * keys.length, needed), Integer.MAX_VALUE - 8);
+                keys = Arrays.copyOf(keys, grown);
+                counts = Arrays.copyOf(counts, grown);
+            }
+        }
+
+        /** Runs the first pass over arr[from, to). */
+        public static Summary of(int[] arr, int from, int to, int k) {
+            Summary summary = new Summary(k);
+            for (int i = from; i < to; i++) {
+                summary.add(arr[i]);
+            }
+            return summary;
+        }
+
+        /** Feeds one value. */
+        public void add(int v) {
+            for (int i = 0; i < size; i++) {
+                comparisons++;
+                if (keys[i] == v) {
+                    counts[i]++;
+                    assignments++;
+                    return;
+                }
+            }
+            if (size < capacity) {
+                ensureRoom(size + 1);
+                keys[size] = v;
+                counts[size] = 1;
+                size++;
+                assignments += 2;
+                return;
+            }
+            // v cancels against one copy of every tracked value
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                long c = counts[i] - 1;
+                if (c > 0) {
+                    keys[kept] = keys[i];
+                    counts[kept] = c;
+                    kept++;
+                }
+            }
+            assignments += size;
+            size = kept;
+        }
+
+        /**
+         * Merges another summary built with the same k into this one.
+         * Error bounds add up, so the result is a valid summary of both parts.
+         *
+         * @return this summary
+         */
+        public Summary merge(Summary other) {
+            for (int j = 0; j < other.size; j++) {
+                int v = other.keys[j];
+                int i = 0;
+                while (i < size && keys[i] != v) {
+                    i++;
+                }
+                if (i < size) {
+                    counts[i] += other.counts[j];
+                } else {
+                    ensureRoom(size + 1);
+                    keys[size] = v;
+                    counts[size] = other.counts[j];
+                    size++;
+                }
+            }
+            comparisons += other.comparisons;
+            assignments += other.assignments;
+            if (size > capacity) {
+                // subtract the k-th largest count and keep the positive remainders
+                long[] sorted = Arrays.copyOf(counts, size);
+                Arrays.sort(sorted);
+                long cut = sorted[size - capacity - 1];
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    long c = counts[i] - cut;
+                    if (c > 0) {
+                        keys[kept] = keys[i];
+                        counts[kept] = c;
+                        kept++;
+                    }
+                }
+                size = kept;
+            }
+            return this;
+        }
+
+        /** Values currently tracked (candidates, not yet verified). */
+        public int[] values() {
+            return Arrays.copyOf(keys, size);
+        }
+
+        /** Number of tracked values. */
+        public int size() {
+            return size;
+        }
+    }
+
+    /** Builds and merges chunk summaries of arr[from, to). */
+    private static final class SummaryTask extends RecursiveTask<Summary> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final int chunk;
+
+        SummaryTask(int[] arr, int from, int to, int k, int chunk) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (to - from <= chunk) {
+                return Summary.of(arr, from, to, k);
+            }
+            int mid = (from + to) >>> 1;
+            SummaryTask left = new SummaryTask(arr, from, mid, k, chunk);
+            left.fork();
+            Summary right = new SummaryTask(arr, mid, to, k, chunk).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /** Exact counts of the candidates in arr[from, to). */
+    private static final class CountTask extends RecursiveTask<long[]> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int[] candidates;
+        private final int chunk;
+
+        CountTask(int[] arr, int from, int to, int[] candidates, int chunk) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= chunk) {
+                return countAll(arr, from, to, candidates);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(arr, from, mid, candidates, chunk);
+            left.fork();
+            long[] right = new CountTask(arr, mid, to, candidates, chunk).compute();
+            long[] counts = left.join();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += right[i];
+            }
+            return counts;
+        }
+    }
+}
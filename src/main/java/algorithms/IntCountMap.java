@@ -0,0 +1,141 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * IntCountMap — open-addressing map from int values to positive int counts.
+ *
+ * Keys and counts live in two primitive arrays (linear probing, power-of-two capacity,
+ * load factor at most 1/2); a count of 0 marks a free slot, so a key is removed as soon
+ * as its count drops to zero (backward-shift deletion, no tombstones).
+ * {@link #put(int, int)} also lets it serve as a plain map to positive ints (e.g. node indexes).
+ *
+ * Not thread-safe.
+ */
+final class IntCountMap {
+    private int[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+
+    /** Creates a map that holds expectedKeys distinct keys without resizing. */
+    IntCountMap(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedKeys * 2 - 1)) << 1;
+        keys = new int[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int slot(int key) {
+        int i = mix(key) & mask;
+        while (counts[i] != 0 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /** Current count of key (0 if absent). */
+    int get(int key) {
+        return counts[slot(key)];
+    }
+
+    /** Adds one occurrence of key and returns its new count. */
+    int increment(int key) {
+        int i = slot(key);
+        if (counts[i] == 0) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                i = slot(key);
+            }
+            keys[i] = key;
+            size++;
+        }
+        return ++counts[i];
+    }
+
+    /** Removes one occurrence of key and returns its new count; absent keys stay absent. */
+    int decrement(int key) {
+        int i = slot(key);
+        if (counts[i] == 0) {
+            return 0;
+        }
+        int c = --counts[i];
+        if (c == 0) {
+            size--;
+            shiftBack(i);
+        }
+        return c;
+    }
+
+    /** Sets key's count to value (must not be negative); 0 removes the key. */
+    void put(int key, int value) {
+        int i = slot(key);
+        if (counts[i] == 0) {
+            if (value == 0) {
+                return;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+                i = slot(key);
+            }
+            keys[i] = key;
+            size++;
+        } else if (value == 0) {
+            counts[i] = 0;
+            size--;
+            shiftBack(i);
+            return;
+        }
+        counts[i] = value;
+    }
+
+    /** Number of keys with a positive count. */
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /** Refills the hole at free so that every remaining key stays reachable from its home slot. */
+    private void shiftBack(int free) {
+        int i = free;
+        while (true) {
+            i = (i + 1) & mask;
+            if (counts[i] == 0) {
+                return;
+            }
+            int home = mix(keys[i]) & mask;
+            // move keys[i] into the hole unless its home lies cyclically in (free, i]
+            boolean stays = free <= i ? (home > free && home <= i) : (home > free || home <= i);
+            if (!stays) {
+                keys[free] = keys[i];
+                counts[free] = counts[i];
+                counts[i] = 0;
+                free = i;
+            }
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldCounts[j] != 0) {
+                int i = slot(oldKeys[j]);
+                keys[i] = oldKeys[j];
+                counts[i] = oldCounts[j];
+            }
+        }
+    }
+}
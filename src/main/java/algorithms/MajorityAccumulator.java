@@ -0,0 +1,155 @@
+package algorithms;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * MajorityAccumulator — incremental Boyer–Moore candidate selection for input that is never
+ * held in memory as a whole (sockets, files, generated streams).
+ *
+ * Behavior:
+ *  - {@link #accept(int)} / {@link #accept(int[], int, int)} run the first pass one value or one
+ *    chunk at a time; only the (candidate, count) state and the number of values seen are kept.
+ *  - {@link #candidate()} is the candidate after the values seen so far. Like the first pass of
+ *    {@link BoyerMoore}, it is only a candidate until verified.
+ *  - {@link #verify(Supplier)} re-reads a replayable source and confirms the candidate.
+ *  - Works as an {@link IntStream} collector (see {@link #collect(IntStream)}); partial
+ *    accumulators of a parallel stream are merged with {@link Vote#merge(Vote, Vote)}.
+ *
+ * Complexity:
+ *  - Time: O(1) per value
+ *  - Space: O(1)
+ *
+ * Not thread-safe: use one accumulator per thread and {@link #combine(MajorityAccumulator)} them.
+ */
+public class MajorityAccumulator implements IntConsumer {
+    private int candidate;
+    private long count;
+    private long seen;
+
+    /** Feeds one value. */
+    @Override
+    public void accept(int value) {
+        seen++;
+        if (count == 0) {
+            candidate = value;
+            count = 1;
+        } else if (value == candidate) {
+            count++;
+        } else {
+            count--;
+        }
+    }
+
+    /**
+     * Feeds chunk[off, off + len).
+     *
+     * @throws IndexOutOfBoundsException if the range is outside the chunk
+     */
+    public void accept(int[] chunk, int off, int len) {
+        Objects.checkFromIndexSize(off, len, chunk.length);
+        // work on locals so the loop does not write fields on every element
+        int c = candidate;
+        long k = count;
+        for (int i = off, end = off + len; i < end; i++) {
+            int v = chunk[i];
+            if (k == 0) {
+                c = v;
+                k = 1;
+            } else if (v == c) {
+                k++;
+            } else {
+                k--;
+            }
+        }
+        candidate = c;
+        count = k;
+        seen += len;
+    }
+
+    /**
+     * Merges another accumulator (e.g. from another thread or stream partition) into this one.
+     *
+     * @return this accumulator
+     */
+    public MajorityAccumulator combine(MajorityAccumulator other) {
+        Vote merged = Vote.merge(vote(), other.vote());
+        candidate = merged.candidate();
+        count = merged.count();
+        seen += other.seen;
+        return this;
+    }
+
+    /** Current candidate, or empty when every value seen so far was cancelled out. */
+    public OptionalInt candidate() {
+        return count == 0 ? OptionalInt.empty() : OptionalInt.of(candidate);
+    }
+
+    /** Allocation-free form of {@link #candidate()} as a packed {@link MajorityResult}. */
+    public long candidatePacked() {
+        return count == 0 ? MajorityResult.NONE : MajorityResult.of(candidate);
+    }
+
+    /** Current (candidate, count) state. */
+    public Vote vote() {
+        return new Vote(candidate, count);
+    }
+
+    /** Number of values fed so far. */
+    public long seen() {
+        return seen;
+    }
+
+    /** Forgets all values seen so far. */
+    public void reset() {
+        candidate = 0;
+        count = 0;
+        seen = 0;
+    }
+
+    /**
+     * Verification mode: re-reads the source and checks that the candidate occurs in more
+     * than half of the values it yields.
+     *
+     * @param replay supplies a fresh stream over the same values on every call
+     * @return OptionalInt.of(majority) if the candidate is confirmed, otherwise OptionalInt.empty()
+     */
+    public OptionalInt verify(Supplier<? extends IntStream> replay) {
+        if (count == 0) {
+            return OptionalInt.empty();
+        }
+        int c = candidate;
+        long[] tally = new long[2]; // [0] = values read, [1] = occurrences of c
+        try (IntStream values = replay.get()) {
+            values.sequential().forEach(v -> {
+                tally[0]++;
+                if (v == c) {
+                    tally[1]++;
+                }
+            });
+        }
+        return tally[1] > tally[0] / 2 ? OptionalInt.of(c) : OptionalInt.empty();
+    }
+
+    /** Runs the candidate pass as a stream collector; the stream may be parallel. */
+    public static MajorityAccumulator collect(IntStream stream) {
+        return stream.collect(MajorityAccumulator::new, MajorityAccumulator::accept, MajorityAccumulator::combine);
+    }
+
+    /**
+     * Finds the majority of a replayable source with two reads: candidate pass, then verification.
+     *
+     * @param source supplies a fresh stream over the same values on every call
+     * @return OptionalInt.of(majority) if majority exists, otherwise OptionalInt.empty()
+     */
+    public static OptionalInt findMajority(Supplier<? extends IntStream> source) {
+        MajorityAccumulator accumulator;
+        try (IntStream values = source.get()) {
+            accumulator = collect(values);
+        }
+        return accumulator.verify(source);
+    }
+}
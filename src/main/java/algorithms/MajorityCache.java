@@ -0,0 +1,234 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.WeakHashMap;
+
+/**
+ * MajorityCache — remembers majority results of arrays that are submitted again and again.
+ *
+ * Behavior:
+ *  - Results are keyed by a 64-bit content fingerprint (XXH64 of the array's little-endian
+ *    bytes, seed 0) plus the length. The fingerprint is computed in the same pass as the
+ *    Boyer–Moore candidate, so a miss costs one fused pass plus the verification pass and a
+ *    hit costs one pass instead of two. Two different contents of equal length sharing a
+ *    fingerprint (about 2^-64 per pair) would share a result.
+ *  - Optional identity fast path: the fingerprint of each array instance is remembered in a
+ *    {@link WeakHashMap} (arrays hash by identity), so re-submitting the same instance is O(1).
+ *    This assumes submitted arrays are not modified afterwards; call {@link #invalidate(int[])}
+ *    after mutating one in place.
+ *  - At most capacity results are kept, evicting the least recently used one.
+ *  - Thread-safe: lookups and inserts synchronize on the cache, the passes over the array do not.
+ *
+ * Complexity:
+ *  - Time: O(1) identity hit, O(n) otherwise; Space: O(capacity)
+ *
+ * Metrics integration:
+ *  - named counters {@link #HITS}, {@link #MISSES}, {@link #IDENTITY_HITS} (also counted as hits)
+ *    and {@link #EVICTIONS}
+ */
+public class MajorityCache {
+    public static final String HITS = "cache.hits";
+    public static final String MISSES = "cache.misses";
+    public static final String IDENTITY_HITS = "cache.identityHits";
+    public static final String EVICTIONS = "cache.evictions";
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    /** Cached result of one array content. */
+    private record Entry(int length, long result) {
+    }
+
+    private final Metrics metrics;
+    private final boolean identityFastPath;
+    private final LinkedHashMap<Long, Entry> results;
+    private final WeakHashMap<int[], Long> fingerprints = new WeakHashMap<>();
+
+    /**
+     * @param capacity         maximum number of cached results, at least 1
+     * @param identityFastPath whether re-submitted instances may skip hashing (see class doc)
+     * @param metrics          metrics collector; if null the no-op sink is used
+     * @throws IllegalArgumentException if capacity < 1
+     */
+    public MajorityCache(int capacity, boolean identityFastPath, Metrics metrics) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, got " + capacity);
+        }
+        this.metrics = metrics == null ? Metrics.noOp() : metrics;
+        this.identityFastPath = identityFastPath;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > capacity) {
+                    MajorityCache.this.metrics.incCounter(EVICTIONS);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Finds the majority element, answering from the cache when the content was seen before.
+     *
+     * @param arr input array (must not be null)
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     * @throws IllegalArgumentException if arr is null
+     */
+    public long findMajorityPacked(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (identityFastPath) {
+            synchronized (this) {
+                Long known = fingerprints.get(arr);
+                Entry entry = known == null ? null : results.get(known);
+                if (entry != null && entry.length() == arr.length) {
+                    metrics.incCounter(IDENTITY_HITS);
+                    metrics.incCounter(HITS);
+                    return entry.result();
+                }
+            }
+        }
+
+        int[] vote = new int[2];
+        long hash = hashAndVote(arr, vote);
+        Long key = hash;
+        synchronized (this) {
+            Entry entry = results.get(key);
+            if (entry != null && entry.length() == arr.length) {
+                if (identityFastPath) {
+                    fingerprints.put(arr, key);
+                }
+                metrics.incCounter(HITS);
+                return entry.result();
+            }
+        }
+
+        metrics.incCounter(MISSES);
+        long result = MajorityResult.NONE;
+        if (vote[1] > 0 && BoyerMoore.confirmMajority(arr, 0, arr.length, vote[0], arr.length / 2 + 1) >= 0) {
+            result = MajorityResult.of(vote[0]);
+        }
+        synchronized (this) {
+            results.put(key, new Entry(arr.length, result));
+            if (identityFastPath) {
+                fingerprints.put(arr, key);
+            }
+        }
+        return result;
+    }
+
+    /** Same as {@link #findMajorityPacked(int[])}, as an OptionalInt. */
+    public OptionalInt findMajority(int[] arr) {
+        return MajorityResult.toOptional(findMajorityPacked(arr));
+    }
+
+    /** Forgets the identity shortcut for arr, e.g. after it was modified in place. */
+    public synchronized void invalidate(int[] arr) {
+        fingerprints.remove(arr);
+    }
+
+    public synchronized void clear() {
+        results.clear();
+        fingerprints.clear();
+    }
+
+    /** Number of cached results. */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /** XXH64 of arr's little-endian bytes with seed 0. */
+    static long hash(int[] arr) {
+        return hashAndVote(arr, new int[2]);
+    }
+
+    /**
+     * One pass computing XXH64 (little-endian bytes, seed 0) and the Boyer–Moore candidate.
+     * The vote ends up in vote[0] (candidate) and vote[1] (remaining count).
+     */
+    private static long hashAndVote(int[] arr, int[] vote) {
+        int n = arr.length;
+        int candidate = 0;
+        int count = 0;
+        int i = 0;
+        long h;
+        if (n >= 8) {
+            long v1 = PRIME64_1 + PRIME64_2;
+            long v2 = PRIME64_2;
+            long v3 = 0;
+            long v4 = -PRIME64_1;
+            //stripes of 32 bytes = 8 ints, two ints per lane
+            for (; i + 8 <= n; i += 8) {
+                v1 = round(v1, lane(arr[i], arr[i + 1]));
+                v2 = round(v2, lane(arr[i + 2], arr[i + 3]));
+                v3 = round(v3, lane(arr[i + 4], arr[i + 5]));
+                v4 = round(v4, lane(arr[i + 6], arr[i + 7]));
+                for (int j = i; j < i + 8; j++) {
+                    if (count == 0) {
+                        candidate = arr[j];
+                        count = 1;
+                    } else {
+                        count += arr[j] == candidate ? 1 : -1;
+                    }
+                }
+            }
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = mergeRound(h, v1);
+            h = mergeRound(h, v2);
+            h = mergeRound(h, v3);
+            h = mergeRound(h, v4);
+        } else {
+            h = PRIME64_5;
+        }
+        h += 4L * n;
+        for (int j = i; j < n; j++) {
+            if (count == 0) {
+                candidate = arr[j];
+                count = 1;
+            } else {
+                count += arr[j] == candidate ? 1 : -1;
+            }
+        }
+        for (; i + 2 <= n; i += 2) {
+            h ^= round(0, lane(arr[i], arr[i + 1]));
+            h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+        }
+        if (i < n) {
+            h ^= (arr[i] & 0xFFFFFFFFL) * PRIME64_1;
+            h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+        }
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        h ^= h >>> 32;
+        vote[0] = candidate;
+        vote[1] = count;
+        return h;
+    }
+
+    /** Little-endian 8-byte word made of two consecutive ints. */
+    private static long lane(int lo, int hi) {
+        return (lo & 0xFFFFFFFFL) | ((long) hi << 32);
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+
+    private static long mergeRound(long acc, long val) {
+        acc ^= round(0, val);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+}
@@ -0,0 +1,67 @@
+package algorithms;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+/**
+ * MajorityResult — allocation-free "maybe an int" packed into a primitive long.
+ *
+ * Layout: bit 32 is the found flag, bits 0..31 hold the value. {@link #NONE} (0L) means
+ * "no majority". Every engine offers a {@code findMajorityPacked} variant returning this form,
+ * so hot callers pay neither for Optional nor for Integer boxing.
+ *
+ * <pre>
+ *   long r = BoyerMoore.findMajorityPacked(arr);
+ *   if (MajorityResult.isPresent(r)) use(MajorityResult.value(r));
+ * </pre>
+ */
+public final class MajorityResult {
+    /** Packed "no majority". */
+    public static final long NONE = 0L;
+    private static final long FOUND = 1L << 32;
+
+    private MajorityResult() {
+    }
+
+    /** Packs a found value. */
+    public static long of(int value) {
+        return FOUND | (value & 0xFFFF_FFFFL);
+    }
+
+    /** True if the packed result holds a value. */
+    public static boolean isPresent(long result) {
+        return (result & FOUND) != 0;
+    }
+
+    /**
+     * Unpacks the value.
+     *
+     * @throws NoSuchElementException if the result is {@link #NONE}
+     */
+    public static int value(long result) {
+        if (!isPresent(result)) {
+            throw new NoSuchElementException("No majority");
+        }
+        return (int) result;
+    }
+
+    /** Unpacks the value, or returns other when there is none. */
+    public static int valueOrElse(long result, int other) {
+        return isPresent(result) ? (int) result : other;
+    }
+
+    /** Converts to an OptionalInt (allocates unless escape analysis removes it). */
+    public static OptionalInt toOptional(long result) {
+        return isPresent(result) ? OptionalInt.of((int) result) : OptionalInt.empty();
+    }
+
+    /** Converts from an OptionalInt. */
+    public static long fromOptional(OptionalInt result) {
+        return result.isPresent() ? of(result.getAsInt()) : NONE;
+    }
+
+    /** Human-readable form: the value or "No majority". */
+    public static String toString(long result) {
+        return isPresent(result) ? Integer.toString((int) result) : "No majority";
+    }
+}
@@ -0,0 +1,62 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalInt;
+
+/**
+ * MappedFileMajority — Boyer–Moore majority vote over a binary file of little-endian int32 values.
+ *
+ * Behavior:
+ *  - The file is mapped read-only as one {@link MemorySegment}; values are read straight from
+ *    the mapping, nothing is copied into an int[]. A segment is addressed with long offsets,
+ *    so files larger than 2 GB (and larger than RAM) work; the OS pages data in and out.
+ *  - Both passes run in {@link OffHeapBoyerMoore}; the verification pass re-scans the mapping.
+ *
+ * Complexity:
+ *  - Time: O(n) (two sequential scans of the file)
+ *  - Space: O(1) heap; the mapping only uses address space
+ */
+public final class MappedFileMajority {
+    private MappedFileMajority() {
+    }
+
+    /** Same as {@link #findMajority(Path, Metrics)} without metrics. */
+    public static OptionalInt findMajority(Path file) throws IOException {
+        return findMajority(file, null);
+    }
+
+    /**
+     * Finds the majority value (occurring in > n/2 of the n values) of an int32 little-endian file.
+     *
+     * @param file    file to scan (size must be a multiple of 4 bytes)
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return OptionalInt.of(majority) if majority exists, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if file is null or its size is not a multiple of 4
+     * @throws IOException              if the file cannot be opened or mapped
+     */
+    public static OptionalInt findMajority(Path file, Metrics metrics) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File must not be null");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             Arena arena = Arena.ofConfined()) {
+            long bytes = channel.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("File size " + bytes + " is not a multiple of 4: " + file);
+            }
+            if (bytes == 0) {
+                return OptionalInt.empty();
+            }
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes, arena);
+            return OffHeapBoyerMoore.findMajority(segment, ByteOrder.LITTLE_ENDIAN, metrics);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.OptionalInt;
+
+/**
+ * OffHeapBoyerMoore — Boyer–Moore majority vote over int32 data that does not live in an int[].
+ *
+ * Behavior:
+ *  - Overloads for {@link MemorySegment}, {@link IntBuffer} and {@link ByteBuffer}, each with a
+ *    packed {@code findMajorityPacked} form; buffers are wrapped with {@link MemorySegment#ofBuffer}
+ *    (their remaining elements, no copy) and all three run the same segment implementation.
+ *  - Byte order: segments and byte buffers are read in the order passed in, int buffers in their
+ *    own {@link IntBuffer#order()}, so non-native views give the same values as their get().
+ *  - The two passes mirror {@link BoyerMoore#findMajorityFast(int[])}: candidate selection, then
+ *    verification in {@link BoyerMoore#VERIFY_BLOCK} blocks with an early exit.
+ *  - Offsets are longs, so segments larger than 2 GB are supported.
+ *
+ * Complexity:
+ *  - Time: O(n) (two linear passes)
+ *  - Space: O(1) extra, nothing is copied to the heap
+ *
+ * Metrics integration:
+ *  - n array accesses and n comparisons for the first pass, and the scanned prefix for the
+ *    second pass, added in bulk
+ */
+public final class OffHeapBoyerMoore {
+
+    private OffHeapBoyerMoore() {
+    }
+
+    /**
+     * Finds the majority among the int32 values stored in a segment.
+     *
+     * @param segment values (byte size must be a multiple of 4; alignment is not required)
+     * @param order   byte order the values were written in
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return OptionalInt.of(majority) if majority exists, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if segment or order is null, or the size is not a multiple of 4
+     */
+    public static OptionalInt findMajority(MemorySegment segment, ByteOrder order, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(segment, order, metrics));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(MemorySegment, ByteOrder, Metrics)}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public static long findMajorityPacked(MemorySegment segment, ByteOrder order, Metrics metrics) {
+        if (segment == null || order == null) {
+            throw new IllegalArgumentException("Segment and byte order must not be null");
+        }
+        if (segment.byteSize() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size " + segment.byteSize() + " is not a multiple of 4");
+        }
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        try {
+            return scan(segment, ValueLayout.JAVA_INT_UNALIGNED.withOrder(order), metrics);
+        } finally {
+            metrics.flush();
+        }
+    }
+
+    /**
+     * Finds the majority among the remaining elements of an int buffer (direct or heap).
+     * Values are read in the buffer's own {@link IntBuffer#order()}: a view created with
+     * {@code byteBuffer.order(BIG_ENDIAN).asIntBuffer()} yields the same ints as its get()
+     * on any platform, and heap buffers from {@link IntBuffer#wrap(int[])} or
+     * {@link IntBuffer#allocate(int)} are in native order. Its position is not changed.
+     *
+     * @throws IllegalArgumentException if buffer is null
+     */
+    public static OptionalInt findMajority(IntBuffer buffer, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(buffer, metrics));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(IntBuffer, Metrics)}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public static long findMajorityPacked(IntBuffer buffer, Metrics metrics) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer must not be null");
+        }
+        return findMajorityPacked(MemorySegment.ofBuffer(buffer), buffer.order(), metrics);
+    }
+
+    /**
+     * Finds the majority among the remaining bytes of a byte buffer, read as int32 values
+     * in the given order (independent of the buffer's own order). Its position is not changed.
+     *
+     * @throws IllegalArgumentException if buffer is null or the remaining size is not a multiple of 4
+     */
+    public static OptionalInt findMajority(ByteBuffer buffer, ByteOrder order, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(buffer, order, metrics));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(ByteBuffer, ByteOrder, Metrics)}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public static long findMajorityPacked(ByteBuffer buffer, ByteOrder order, Metrics metrics) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer must not be null");
+        }
+        return findMajorityPacked(MemorySegment.ofBuffer(buffer), order, metrics);
+    }
+
+    private static long scan(MemorySegment segment, ValueLayout.OfInt layout, Metrics metrics) {
+        long n = segment.byteSize() / Integer.BYTES;
+        if (n == 0) {
+            return MajorityResult.NONE;
+        }
+
+        //first pass - candidate selection
+        int candidate = 0;
+        long count = 0;
+        for (long i = 0; i < n; i++) {
+            int v = segment.getAtIndex(layout, i);
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        metrics.addArrayAccesses(n);
+        metrics.addComparisons(n);
+        if (count == 0) {
+            return MajorityResult.NONE;
+        }
+
+        //second pass - verification with a per-block early exit
+        long needed = n / 2 + 1;
+        long occurrences = 0;
+        long scanned = n;
+        for (long start = 0; start < n; start += BoyerMoore.VERIFY_BLOCK) {
+            long end = Math.min(n, start + BoyerMoore.VERIFY_BLOCK);
+            for (long i = start; i < end; i++) {
+                if (segment.getAtIndex(layout, i) == candidate) {
+                    occurrences++;
+                }
+            }
+            if (occurrences >= needed || occurrences + (n - end) < needed) {
+                scanned = end;
+                break;
+            }
+        }
+        metrics.addArrayAccesses(scanned);
+        metrics.addComparisons(scanned);
+        return occurrences >= needed ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+}
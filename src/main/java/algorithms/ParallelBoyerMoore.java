@@ -0,0 +1,175 @@
+package algorithms;
+
+import utils.MajorityCallEvent;
+import utils.MajorityPhaseEvent;
+import utils.Metrics;
+
+import java.util.OptionalInt;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ParallelBoyerMoore — fork/join version of the Boyer–Moore majority vote.
+ *
+ * Behavior:
+ *  - First phase: the array is split into chunks, each chunk runs the candidate pass and
+ *    produces a {@link Vote}; votes are merged pairwise with {@link Vote#merge(Vote, Vote)}.
+ *  - Second phase: the merged candidate is verified with a parallel count.
+ *  - Inputs shorter than {@link #SEQUENTIAL_THRESHOLD} go straight to
+ *    {@link BoyerMoore#findMajorityFast(int[])}; forking costs more than it saves there.
+ *
+ * Complexity:
+ *  - Work: O(n), span: O(n / p + log p) for p workers
+ *  - Space: O(log n) stack for the task tree
+ *
+ * Metrics integration:
+ *  - counters are added in bulk by the calling thread after each phase
+ *    (n array accesses and n comparisons per phase), so any Metrics sink can be used
+ *  - JFR: one {@link utils.MajorityCallEvent} per call and a {@link utils.MajorityPhaseEvent}
+ *    per phase, with the number of chunks; inputs below the threshold report as sequential
+ */
+public final class ParallelBoyerMoore {
+    /** Inputs shorter than this are handled by the sequential fast path. */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 17;
+    /** Engine name reported in JFR events. */
+    static final String ENGINE_NAME = "parallel";
+    /** Smallest chunk a task is split into. */
+    static final int MIN_CHUNK = 1 << 15;
+
+    private ParallelBoyerMoore() {
+    }
+
+    /** Finds the majority element using the common pool. */
+    public static OptionalInt findMajority(int[] arr) {
+        return findMajority(arr, ForkJoinPool.commonPool(), null);
+    }
+
+    /** Finds the majority element using the given pool. */
+    public static OptionalInt findMajority(int[] arr, ForkJoinPool pool) {
+        return findMajority(arr, pool, null);
+    }
+
+    /**
+     * Same as {@link #findMajorityPacked(int[], ForkJoinPool, Metrics)}, converted to an OptionalInt.
+     */
+    public static OptionalInt findMajority(int[] arr, ForkJoinPool pool, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(arr, pool, metrics));
+    }
+
+    /**
+     * Finds the majority element (element that appears > n/2 times) if one exists.
+     *
+     * @param arr     input array (must not be null)
+     * @param pool    pool the chunk tasks run in (must not be null)
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}.
+     *         The result itself is primitive; the fork/join tasks still allocate.
+     * @throws IllegalArgumentException if arr or pool is null
+     */
+    public static long findMajorityPacked(int[] arr, ForkJoinPool pool, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        int n = arr.length;
+        if (n < SEQUENTIAL_THRESHOLD) {
+            return BoyerMoore.findMajorityPacked(arr);
+        }
+
+        int chunk = chunkSize(n, pool.getParallelism());
+        int chunks = (n + chunk - 1) / chunk;
+        MajorityCallEvent call = new MajorityCallEvent();
+        call.begin();
+
+        // first phase - per-chunk candidates merged with the vote rule
+        MajorityPhaseEvent phase = new MajorityPhaseEvent();
+        phase.begin();
+        Vote vote = pool.invoke(new CandidateTask(arr, 0, n, chunk));
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.CANDIDATE, n, chunks, -1);
+        metrics.addArrayAccesses(n);
+        metrics.addComparisons(n);
+        if (vote.isEmpty()) {
+            metrics.flush();
+            call.end(ENGINE_NAME, n, chunks, -1, false);
+            return MajorityResult.NONE;
+        }
+
+        // second phase - parallel verification (counts every chunk, no early exit)
+        phase = new MajorityPhaseEvent();
+        phase.begin();
+        long occurrences = pool.invoke(new CountTask(arr, 0, n, chunk, vote.candidate()));
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.VERIFY, n, chunks, -1);
+        metrics.addArrayAccesses(n);
+        metrics.addComparisons(n);
+        metrics.flush();
+        boolean found = occurrences > n / 2;
+        call.end(ENGINE_NAME, n, chunks, -1, found);
+        return found ? MajorityResult.of(vote.candidate()) : MajorityResult.NONE;
+    }
+
+    /** About four chunks per worker so that stealing can even out slow workers. */
+    static int chunkSize(int n, int parallelism) {
+        return Math.max(MIN_CHUNK, n / (Math.max(1, parallelism) * 4));
+    }
+
+    /** Candidate phase over arr[from, to). */
+    private static final class CandidateTask extends RecursiveTask<Vote> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        CandidateTask(int[] arr, int from, int to, int chunk) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Vote compute() {
+            if (to - from <= chunk) {
+                return Vote.of(arr, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CandidateTask left = new CandidateTask(arr, from, mid, chunk);
+            left.fork();
+            Vote right = new CandidateTask(arr, mid, to, chunk).compute();
+            return Vote.merge(left.join(), right);
+        }
+    }
+
+    /** Verification phase: occurrences of value in arr[from, to). */
+    private static final class CountTask extends RecursiveTask<Long> {
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final int value;
+
+        CountTask(int[] arr, int from, int to, int chunk, int value) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.value = value;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= chunk) {
+                return (long) BoyerMoore.countOccurrences(arr, from, to, value);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(arr, from, mid, chunk, value);
+            left.fork();
+            long right = new CountTask(arr, mid, to, chunk, value).compute();
+            return left.join() + right;
+        }
+    }
+}
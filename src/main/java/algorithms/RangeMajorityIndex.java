@@ -0,0 +1,200 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+/**
+ * RangeMajorityIndex — read-only index answering "majority of arr[from..to)" for a static array.
+ *
+ * Behavior:
+ *  - The array is cut into blocks of B elements. A segment tree over the blocks stores the
+ *    Boyer–Moore (candidate, count) pair of every node; a query merges the pairs of the fully
+ *    covered blocks and votes over the at most 2(B - 1) elements of the partial edge blocks.
+ *  - The candidate is verified with sorted occurrence lists (CSR layout: distinct values,
+ *    offsets, positions): one binary search finds the value, two more count it in the range.
+ *  - B trades memory for speed: B = 1 stores 2n pairs and scans nothing, larger B shrinks the
+ *    tree to 2n/B pairs at the cost of scanning up to 2B elements per query. The occurrence
+ *    lists always take n + 2d ints for d distinct values.
+ *  - The index keeps a reference to the array (no copy); it must not be modified afterwards.
+ *
+ * Complexity:
+ *  - Build: O(n log n) (sorting the distinct values)
+ *  - Query: O(log n + B)
+ *  - Space: O(n / B) pairs + O(n) occurrence lists
+ *
+ * Immutable after construction and safe to query from several threads.
+ */
+public class RangeMajorityIndex {
+    /** Block size used by {@link #RangeMajorityIndex(int[])}. */
+    public static final int DEFAULT_BLOCK_SIZE = 16;
+
+    private final int[] arr;
+    private final int blockSize;
+    private final int blocks;
+
+    //segment tree over block leaves [leaves, 2 * leaves)
+    private final int leaves;
+    private final int[] candidates;
+    private final int[] counts;
+
+    //occurrence lists: positions of distinct[k] are positions[offsets[k] .. offsets[k + 1])
+    private final int[] distinct;
+    private final int[] offsets;
+    private final int[] positions;
+
+    /** Index with {@link #DEFAULT_BLOCK_SIZE}. */
+    public RangeMajorityIndex(int[] arr) {
+        this(arr, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param arr       indexed array (must not be null, must not change afterwards)
+     * @param blockSize elements per segment tree leaf, at least 1
+     * @throws IllegalArgumentException if arr is null or blockSize < 1
+     */
+    public RangeMajorityIndex(int[] arr, int blockSize) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1, got " + blockSize);
+        }
+        this.arr = arr;
+        this.blockSize = blockSize;
+        int n = arr.length;
+        blocks = (int) (((long) n + blockSize - 1) / blockSize);
+
+        //first pass - one vote per block, then the tree above them
+        leaves = Integer.highestOneBit(Math.max(1, blocks - 1)) << 1;
+        candidates = new int[2 * leaves];
+        counts = new int[2 * leaves];
+        for (int b = 0; b < blocks; b++) {
+            int from = b * blockSize;
+            setNode(leaves + b, Vote.packedOf(arr, from, (int) Math.min(n, (long) from + blockSize)));
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            setNode(node, Vote.mergePacked(node(2 * node), node(2 * node + 1)));
+        }
+
+        //second pass - occurrence lists, positions ascending within each value
+        int[] sorted = arr.clone();
+        Arrays.sort(sorted);
+        int d = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[d++] = sorted[i];
+            }
+        }
+        distinct = Arrays.copyOf(sorted, d);
+        offsets = new int[d + 1];
+        for (int v : arr) {
+            offsets[Arrays.binarySearch(distinct, v) + 1]++;
+        }
+        for (int k = 0; k < d; k++) {
+            offsets[k + 1] += offsets[k];
+        }
+        positions = new int[n];
+        int[] next = Arrays.copyOf(offsets, d);
+        for (int i = 0; i < n; i++) {
+            positions[next[Arrays.binarySearch(distinct, arr[i])]++] = i;
+        }
+    }
+
+    /** Number of indexed elements. */
+    public int size() {
+        return arr.length;
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /** Approximate heap footprint of the index itself (excluding the indexed array). */
+    public long footprintBytes() {
+        return 4L * (candidates.length + counts.length + distinct.length + offsets.length + positions.length);
+    }
+
+    /**
+     * Majority of arr[from..to).
+     *
+     * @return a {@link MajorityResult}: the value occurring more than (to - from) / 2 times, or NONE
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public long majorityPacked(int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        if (from == to) {
+            return MajorityResult.NONE;
+        }
+        int firstBlock = (from + blockSize - 1) / blockSize;
+        int lastBlock = to / blockSize;
+        long vote;
+        if (firstBlock >= lastBlock) {
+            //range lies within one or two partial blocks - plain vote
+            vote = Vote.packedOf(arr, from, to);
+        } else {
+            //edge elements first, then the whole blocks [firstBlock, lastBlock)
+            vote = Vote.mergePacked(Vote.packedOf(arr, from, firstBlock * blockSize),
+                    Vote.packedOf(arr, lastBlock * blockSize, to));
+            for (int lo = firstBlock + leaves, hi = lastBlock + leaves; lo < hi; lo >>= 1, hi >>= 1) {
+                if ((lo & 1) == 1) {
+                    vote = Vote.mergePacked(vote, node(lo++));
+                }
+                if ((hi & 1) == 1) {
+                    vote = Vote.mergePacked(vote, node(--hi));
+                }
+            }
+        }
+        if (Vote.countOf(vote) == 0) {
+            return MajorityResult.NONE;
+        }
+        int candidate = Vote.candidateOf(vote);
+        return occurrences(candidate, from, to) > (to - from) / 2 ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+
+    /** Majority of arr[from..to), see {@link #majorityPacked(int, int)}. */
+    public OptionalInt majority(int from, int to) {
+        return MajorityResult.toOptional(majorityPacked(from, to));
+    }
+
+    /**
+     * Number of positions in [from, to) holding value.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within [0, size())
+     */
+    public int count(int value, int from, int to) {
+        Objects.checkFromToIndex(from, to, arr.length);
+        return occurrences(value, from, to);
+    }
+
+    /** Packed vote of a tree node. */
+    private long node(int node) {
+        return Vote.pack(candidates[node], counts[node]);
+    }
+
+    private void setNode(int node, long vote) {
+        candidates[node] = Vote.candidateOf(vote);
+        counts[node] = (int) Vote.countOf(vote); // at most n
+    }
+
+    private int occurrences(int value, int from, int to) {
+        int k = Arrays.binarySearch(distinct, value);
+        if (k < 0) {
+            return 0;
+        }
+        return lowerBound(offsets[k], offsets[k + 1], to) - lowerBound(offsets[k], offsets[k + 1], from);
+    }
+
+    /** First index in positions[lo..hi) whose position is >= pos. */
+    private int lowerBound(int lo, int hi, int pos) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (positions[mid] < pos) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
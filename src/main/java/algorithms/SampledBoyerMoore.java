@@ -0,0 +1,118 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * SampledBoyerMoore — majority vote with a sampling pre-check that skips both passes
+ * when a random sample already shows that no value can be a majority.
+ *
+ * Behavior:
+ *  - Before the candidate pass, {@link SamplingPolicy#sampleSize()} random positions are read
+ *    and the most frequent sampled value is counted. If even that value falls short of the
+ *    policy's threshold, "no majority" is returned without scanning the array.
+ *  - Otherwise the exact two-pass algorithm runs, so a reported majority is always correct.
+ *  - A rejection misses a true majority with probability at most
+ *    {@link SamplingPolicy#falseNegativeBound()}. Use {@link SamplingPolicy#EXACT} (or
+ *    {@link BoyerMoore#findMajority(int[], Verification, Metrics)} with EXACT) when
+ *    "no majority" must be guaranteed.
+ *  - With {@link SamplingPolicy#withAudit(int)}, a random share of rejections is re-checked
+ *    exactly; audited calls return the exact answer.
+ *
+ * Complexity:
+ *  - Time: O(s log s) when rejected, O(n) otherwise; Space: O(s) for the sample
+ *
+ * Metrics integration:
+ *  - {@link BoyerMoore#SAMPLED_ELEMENTS}, {@link #REJECTIONS}, {@link #AUDITS} and
+ *    {@link #FALSE_NEGATIVES} named counters; {@link #falseNegativeRate(Metrics)} reads them
+ *  - the exact path reports the counters of {@link BoyerMoore#findMajority(int[], Verification, Metrics)}
+ */
+public final class SampledBoyerMoore {
+    /** Metrics counter: calls answered "no majority" from the sample alone. */
+    public static final String REJECTIONS = "sampling.rejections";
+    /** Metrics counter: rejections re-checked with an exact pass. */
+    public static final String AUDITS = "sampling.audits";
+    /** Metrics counter: audited rejections that had a majority after all. */
+    public static final String FALSE_NEGATIVES = "sampling.falseNegatives";
+
+    private SampledBoyerMoore() {
+    }
+
+    /**
+     * Finds the majority element, rejecting early when a sample rules one out.
+     *
+     * @param arr     input array (must not be null)
+     * @param policy  sampling policy (must not be null)
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return a {@link MajorityResult}: the majority if one was found, otherwise NONE
+     * @throws IllegalArgumentException if arr or policy is null
+     */
+    public static long findMajority(int[] arr, SamplingPolicy policy, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Sampling policy must not be null");
+        }
+        if (metrics == null) {
+            metrics = Metrics.noOp();
+        }
+        try {
+            return findMajoritySampled(arr, policy, metrics);
+        } finally {
+            metrics.flush(); // publish counts buffered by this thread, the rejection path included
+        }
+    }
+
+    private static long findMajoritySampled(int[] arr, SamplingPolicy policy, Metrics metrics) {
+        if (policy.appliesTo(arr.length)) {
+            RandomGenerator random = policy.random();
+            int s = policy.sampleSize();
+            metrics.addArrayAccesses(s);
+            metrics.addCounter(BoyerMoore.SAMPLED_ELEMENTS, s);
+            if (mostFrequentInSample(arr, s, random) < policy.rejectBelow()) {
+                metrics.incCounter(REJECTIONS);
+                int audit = policy.auditEvery();
+                if (audit == 0 || random.nextInt(audit) != 0) {
+                    return MajorityResult.NONE;
+                }
+                metrics.incCounter(AUDITS);
+                long exact = BoyerMoore.findMajority(arr, Verification.EXACT, metrics);
+                if (MajorityResult.isPresent(exact)) {
+                    metrics.incCounter(FALSE_NEGATIVES);
+                }
+                return exact;
+            }
+        }
+        return BoyerMoore.findMajority(arr, Verification.EXACT, metrics);
+    }
+
+    /**
+     * Observed false-negative rate: audited rejections that were wrong, over all audits.
+     * Returns 0 when nothing has been audited yet.
+     */
+    public static double falseNegativeRate(Metrics metrics) {
+        long audits = metrics.getCounter(AUDITS);
+        return audits == 0 ? 0 : (double) metrics.getCounter(FALSE_NEGATIVES) / audits;
+    }
+
+    /** Highest number of times a single value occurs among s random positions of arr. */
+    private static int mostFrequentInSample(int[] arr, int s, RandomGenerator random) {
+        int[] sample = new int[s];
+        for (int i = 0; i < s; i++) {
+            sample[i] = arr[random.nextInt(arr.length)];
+        }
+        Arrays.sort(sample);
+        int best = 1;
+        int run = 1;
+        for (int i = 1; i < s; i++) {
+            run = sample[i] == sample[i - 1] ? run + 1 : 1;
+            if (run > best) {
+                best = run;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,144 @@
+package algorithms;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * SamplingPolicy — how many random positions to sample and when a sample rules out a majority.
+ *
+ * A majority value occurs with frequency p > 1/2, so among s uniform samples (with replacement)
+ * it shows up fewer than s(1/2 - t) times with probability at most exp(-2 s t^2) (Hoeffding).
+ * With t chosen so that this bound equals 1 - confidence, a sample in which no value reaches
+ * s(1/2 - t) hits means "no majority" and is wrong with probability at most 1 - confidence.
+ *
+ * Immutable and thread-safe. Inputs shorter than four samples' worth are never sampled.
+ */
+public final class SamplingPolicy {
+    /** Sampling disabled: every check is exact. */
+    public static final SamplingPolicy EXACT = new SamplingPolicy(1.0, 0, 0, 0, false);
+    /** Confidence 1 - 1e-9, used by {@link Verification#SAMPLED}. */
+    public static final SamplingPolicy DEFAULT = new SamplingPolicy(1 - 1e-9);
+
+    /** Margin t below 1/2 used to derive the sample size from a confidence level. */
+    static final double DEFAULT_MARGIN = 0.1;
+
+    private final double confidence;
+    private final int sampleSize;
+    private final int rejectBelow;
+    private final int auditEvery;
+    private final long seed;
+    private final boolean seeded;
+
+    /**
+     * Policy for a confidence level; the sample size is chosen so that a sample must fall
+     * at least 10 percentage points short of 1/2 before it is rejected.
+     *
+     * @param confidence probability that a rejection is correct, in (0, 1)
+     * @throws IllegalArgumentException if confidence is outside (0, 1)
+     */
+    public SamplingPolicy(double confidence) {
+        this(confidence, sizeFor(confidence), 0, 0, false);
+    }
+
+    /**
+     * Policy with an explicit sample size; smaller samples only reject more lopsided inputs.
+     *
+     * @throws IllegalArgumentException if confidence is outside (0, 1) or sampleSize < 1
+     */
+    public SamplingPolicy(double confidence, int sampleSize) {
+        this(confidence, sampleSize, 0, 0, false);
+        if (sampleSize < 1) {
+            throw new IllegalArgumentException("Sample size must be positive, got " + sampleSize);
+        }
+    }
+
+    private SamplingPolicy(double confidence, int sampleSize, int auditEvery, long seed, boolean seeded) {
+        if (sampleSize > 0 && !(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be in (0, 1), got " + confidence);
+        }
+        this.confidence = confidence;
+        this.sampleSize = sampleSize;
+        this.auditEvery = auditEvery;
+        this.seed = seed;
+        this.seeded = seeded;
+        if (sampleSize == 0) {
+            this.rejectBelow = 0;
+        } else {
+            double t = Math.sqrt(Math.log(1 / (1 - confidence)) / (2.0 * sampleSize));
+            this.rejectBelow = (int) Math.max(0, Math.ceil(sampleSize * (0.5 - t)));
+        }
+    }
+
+    private static int sizeFor(double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be in (0, 1), got " + confidence);
+        }
+        return (int) Math.ceil(Math.log(1 / (1 - confidence)) / (2 * DEFAULT_MARGIN * DEFAULT_MARGIN));
+    }
+
+    /**
+     * Same policy, but on average one in every rejections is double-checked with an exact
+     * count so the real false-negative rate can be measured. 0 disables auditing.
+     */
+    public SamplingPolicy withAudit(int every) {
+        if (every < 0) {
+            throw new IllegalArgumentException("Audit interval must not be negative, got " + every);
+        }
+        return new SamplingPolicy(confidence, sampleSize, every, seed, seeded);
+    }
+
+    /** Same policy with reproducible sample positions (every call starts from this seed). */
+    public SamplingPolicy withSeed(long seed) {
+        return new SamplingPolicy(confidence, sampleSize, auditEvery, seed, true);
+    }
+
+    public double confidence() {
+        return confidence;
+    }
+
+    public int sampleSize() {
+        return sampleSize;
+    }
+
+    public int auditEvery() {
+        return auditEvery;
+    }
+
+    /** Upper bound on the probability that a rejection misses a true majority. */
+    public double falseNegativeBound() {
+        return sampleSize == 0 ? 0 : 1 - confidence;
+    }
+
+    /** Sample hits below this count rule out a majority. */
+    int rejectBelow() {
+        return rejectBelow;
+    }
+
+    /** True if sampling is worth it for n elements. */
+    boolean appliesTo(int n) {
+        return sampleSize > 0 && rejectBelow > 0 && n >= 4 * sampleSize;
+    }
+
+    /** Source of sample positions for one call. */
+    RandomGenerator random() {
+        return seeded ? new SplittableRandom(seed) : ThreadLocalRandom.current();
+    }
+
+    /** Number of sampled positions of arr that hold value. */
+    int sampleHits(int[] arr, int value, RandomGenerator random) {
+        int hits = 0;
+        for (int i = 0; i < sampleSize; i++) {
+            if (arr[random.nextInt(arr.length)] == value) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Override
+    public String toString() {
+        return "SamplingPolicy[confidence=" + confidence + ", sampleSize=" + sampleSize
+                + ", rejectBelow=" + rejectBelow + ", auditEvery=" + auditEvery + "]";
+    }
+}
@@ -0,0 +1,111 @@
+package algorithms;
+
+import java.util.OptionalInt;
+
+/**
+ * SlidingWindowMajority — majority of the last W values of a stream.
+ *
+ * Behavior:
+ *  - A ring buffer holds the window; {@link #push(int)} overwrites (evicts) the oldest value
+ *    once W values have been seen.
+ *  - Exact per-value counts of the window are kept in a primitive {@link IntCountMap}.
+ *  - The majority is tracked incrementally: a push only raises the count of the pushed value,
+ *    so it is the only value that can become a new majority; the previous majority is
+ *    re-checked because the eviction or the growing window may have cost it the lead.
+ *
+ * Complexity:
+ *  - push: O(1) expected
+ *  - majority query: O(1)
+ *  - Space: O(W)
+ *
+ * Not thread-safe.
+ */
+public class SlidingWindowMajority {
+    private final int[] ring;
+    private final IntCountMap counts;
+    private int head;
+    private int size;
+    private int majority;
+    private boolean hasMajority;
+
+    /**
+     * @param window number of most recent values the majority is computed over
+     * @throws IllegalArgumentException if window < 1
+     */
+    public SlidingWindowMajority(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be at least 1, got " + window);
+        }
+        ring = new int[window];
+        counts = new IntCountMap(window);
+    }
+
+    /** Appends a value, evicting the oldest one when the window is full. */
+    public void push(int value) {
+        if (size == ring.length) {
+            counts.decrement(ring[head]);
+        } else {
+            size++;
+        }
+        ring[head] = value;
+        if (++head == ring.length) {
+            head = 0;
+        }
+
+        int threshold = size / 2;
+        if (counts.increment(value) > threshold) {
+            majority = value;
+            hasMajority = true;
+        } else if (hasMajority && counts.get(majority) <= threshold) {
+            hasMajority = false;
+        }
+    }
+
+    /** Majority of the current window, or empty if there is none. */
+    public OptionalInt majority() {
+        return hasMajority ? OptionalInt.of(majority) : OptionalInt.empty();
+    }
+
+    /** Allocation-free form of {@link #majority()} as a packed {@link MajorityResult}. */
+    public long majorityPacked() {
+        return hasMajority ? MajorityResult.of(majority) : MajorityResult.NONE;
+    }
+
+    /** True if the current window has a majority. */
+    public boolean hasMajority() {
+        return hasMajority;
+    }
+
+    /** Occurrences of value in the current window. */
+    public int count(int value) {
+        return counts.get(value);
+    }
+
+    /** Number of values currently in the window (at most {@link #window()}). */
+    public int size() {
+        return size;
+    }
+
+    /** Configured window length W. */
+    public int window() {
+        return ring.length;
+    }
+
+    /** Copies the current window, oldest value first. */
+    public int[] toArray() {
+        int[] out = new int[size];
+        int start = size == ring.length ? head : 0;
+        for (int i = 0; i < size; i++) {
+            out[i] = ring[(start + i) % ring.length];
+        }
+        return out;
+    }
+
+    /** Empties the window. */
+    public void clear() {
+        counts.clear();
+        head = 0;
+        size = 0;
+        hasMajority = false;
+    }
+}
@@ -0,0 +1,290 @@
+package algorithms;
+
+import utils.Metrics;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.BiPredicate;
+
+/**
+ * TypedBoyerMoore — the Boyer–Moore majority vote for key types other than int:
+ * long[] (e.g. user IDs), short[] and byte[] (enumerated codes) and T[] with a
+ * caller-supplied equality strategy.
+ *
+ * Behavior:
+ *  - Every variant is the same two-pass algorithm as {@link BoyerMoore}: candidate selection,
+ *    then verification with an early exit once occurrences exceed n/2.
+ *  - The primitive variants work on the primitive values directly; nothing is boxed.
+ *    short and byte majorities are returned widened to int (sign-extended).
+ *  - The object variant only needs equality, so any equivalence relation can be passed
+ *    (e.g. case-insensitive strings, or keys compared by an id field).
+ *  - Each type has its own copy of the int loop that keeps the candidate value in a local,
+ *    so the comparisons stay monomorphic and inline; only the counter arithmetic is shared.
+ *
+ * Complexity:
+ *  - Time: O(n), Space: O(1) extra
+ *
+ * Metrics integration:
+ *  - same counter values as {@link BoyerMoore#findMajority(int[], Metrics)} for the same
+ *    input (reads, comparisons, candidate/count updates), counted in locals and added once
+ *    per call
+ */
+public final class TypedBoyerMoore {
+
+    private TypedBoyerMoore() {
+    }
+
+    /**
+     * Finds the majority of a long[] array.
+     *
+     * @param arr     input array (must not be null)
+     * @param metrics metrics collector; if null the no-op sink is used
+     * @return OptionalLong.of(majority) if majority exists, otherwise OptionalLong.empty()
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static OptionalLong findMajority(long[] arr, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int n = arr.length;
+        //first pass - candidate selection
+        long candidate = 0;
+        int count = 0;
+        int adoptions = 0;
+        for (long v : arr) {
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+                adoptions++;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        if (count == 0) {
+            record(metrics, n, adoptions, 0, 0);
+            return OptionalLong.empty();
+        }
+
+        //second pass - verification with early exit
+        int threshold = n / 2;
+        int occurrences = 0;
+        int read = 0;
+        while (read < n) {
+            if (arr[read++] == candidate && ++occurrences > threshold) {
+                break;
+            }
+        }
+        record(metrics, n, adoptions, read, occurrences);
+        return occurrences > threshold ? OptionalLong.of(candidate) : OptionalLong.empty();
+    }
+
+    /**
+     * Finds the majority of a short[] array.
+     *
+     * @return OptionalInt of the (sign-extended) majority, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static OptionalInt findMajority(short[] arr, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(arr, metrics));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(short[], Metrics)}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public static long findMajorityPacked(short[] arr, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int n = arr.length;
+        //first pass - candidate selection
+        short candidate = 0;
+        int count = 0;
+        int adoptions = 0;
+        for (short v : arr) {
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+                adoptions++;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        if (count == 0) {
+            record(metrics, n, adoptions, 0, 0);
+            return MajorityResult.NONE;
+        }
+
+        //second pass - verification with early exit
+        int threshold = n / 2;
+        int occurrences = 0;
+        int read = 0;
+        while (read < n) {
+            if (arr[read++] == candidate && ++occurrences > threshold) {
+                break;
+            }
+        }
+        record(metrics, n, adoptions, read, occurrences);
+        return occurrences > threshold ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+
+    /**
+     * Finds the majority of a byte[] array.
+     *
+     * @return OptionalInt of the (sign-extended) majority, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static OptionalInt findMajority(byte[] arr, Metrics metrics) {
+        return MajorityResult.toOptional(findMajorityPacked(arr, metrics));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(byte[], Metrics)}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     */
+    public static long findMajorityPacked(byte[] arr, Metrics metrics) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int n = arr.length;
+        //first pass - candidate selection
+        byte candidate = 0;
+        int count = 0;
+        int adoptions = 0;
+        for (byte v : arr) {
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+                adoptions++;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        if (count == 0) {
+            record(metrics, n, adoptions, 0, 0);
+            return MajorityResult.NONE;
+        }
+
+        //second pass - verification with early exit
+        int threshold = n / 2;
+        int occurrences = 0;
+        int read = 0;
+        while (read < n) {
+            if (arr[read++] == candidate && ++occurrences > threshold) {
+                break;
+            }
+        }
+        record(metrics, n, adoptions, read, occurrences);
+        return occurrences > threshold ? MajorityResult.of(candidate) : MajorityResult.NONE;
+    }
+
+    /**
+     * Finds the majority of an object array using {@link Objects#equals(Object, Object)}.
+     *
+     * @throws IllegalArgumentException if arr is null or contains null
+     */
+    public static <T> Optional<T> findMajority(T[] arr, Metrics metrics) {
+        return findMajority(arr, Objects::equals, metrics);
+    }
+
+    /**
+     * Finds the majority of an object array under a caller-supplied equality.
+     *
+     * @param arr      input array (must not be null, must not contain null)
+     * @param equality equivalence relation on the elements (must not be null)
+     * @param metrics  metrics collector; if null the no-op sink is used
+     * @return Optional.of(first element of the majority class seen as candidate), otherwise Optional.empty()
+     * @throws IllegalArgumentException if arr or equality is null, or arr contains null
+     */
+    public static <T> Optional<T> findMajority(T[] arr, BiPredicate<? super T, ? super T> equality, Metrics metrics) {
+        if (arr == null || equality == null) {
+            throw new IllegalArgumentException("Input array and equality must not be null");
+        }
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == null) {
+                throw new IllegalArgumentException("Input array must not contain null (index " + i + ")");
+            }
+        }
+        int n = arr.length;
+        //first pass - candidate selection
+        T candidate = null;
+        int count = 0;
+        int adoptions = 0;
+        for (T v : arr) {
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+                adoptions++;
+            } else if (equality.test(v, candidate)) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        if (count == 0) {
+            record(metrics, n, adoptions, 0, 0);
+            return Optional.empty();
+        }
+
+        //second pass - verification with early exit
+        int threshold = n / 2;
+        int occurrences = 0;
+        int read = 0;
+        while (read < n) {
+            if (equality.test(arr[read++], candidate) && ++occurrences > threshold) {
+                break;
+            }
+        }
+        record(metrics, n, adoptions, read, occurrences);
+        return occurrences > threshold ? Optional.of(candidate) : Optional.empty();
+    }
+
+    /**
+     * Adds the counters {@link BoyerMoore#findMajority(int[], Metrics)} would record for the
+     * same input. They follow from four totals of the loops: every first-pass element is read
+     * and assigned, and either adopted as candidate (3 assignments) or compared once (plus a
+     * count update); every adoption after the first follows a reset of hasCandidate. Each
+     * verification read is one access and one comparison, each match one assignment, and the
+     * early exit one more comparison.
+     *
+     * @param adoptions   times the first pass adopted a new candidate
+     * @param read        elements read by the verification pass, 0 if it did not run
+     * @param occurrences matches of the candidate found by the verification pass
+     */
+    private static void record(Metrics metrics, int n, int adoptions, int read, int occurrences) {
+        if (metrics == null || n == 0) {
+            return;
+        }
+        if (n == 1) {
+            //the int version returns the single element without voting
+            add(metrics, 1, 0, 1);
+            return;
+        }
+        long compared = n - adoptions;
+        long resets = adoptions - (read > 0 ? 1 : 0);
+        long assignments = n + 3L * adoptions + compared + resets;
+        if (read == 0) {
+            add(metrics, n, compared, assignments);
+            return;
+        }
+        boolean earlyExit = occurrences > n / 2;
+        add(metrics, (long) n + read, compared + read + (earlyExit ? 1 : 0), assignments + occurrences);
+    }
+
+    private static void add(Metrics metrics, long arrayAccesses, long comparisons, long assignments) {
+        metrics.addArrayAccesses(arrayAccesses);
+        metrics.addComparisons(comparisons);
+        metrics.addAssignments(assignments);
+        metrics.flush();
+    }
+}
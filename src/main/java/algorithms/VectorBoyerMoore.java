@@ -0,0 +1,148 @@
+package algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import utils.MajorityCallEvent;
+import utils.MajorityPhaseEvent;
+
+import java.util.OptionalInt;
+
+/**
+ * VectorBoyerMoore — Boyer–Moore majority vote on top of the incubating Vector API.
+ *
+ * Behavior:
+ *  - First pass (blockwise pairing): every SIMD lane runs its own candidate/count state over the
+ *    elements at positions i ≡ lane (mod L). Each lane only cancels pairs of distinct values, so
+ *    merging the L lane votes (plus the scalar tail) with the {@link Vote} pairing rule still
+ *    keeps a true majority as the candidate. The merge works on primitives, nothing is allocated.
+ *  - Second pass: broadcast compare against the candidate, popcount of the mask, and an
+ *    early exit once per {@link BoyerMoore#VERIFY_BLOCK} elements when the threshold is reached.
+ *
+ * Requires {@code --add-modules jdk.incubator.vector} at compile and run time; use
+ * {@link Engine#SIMD}, which falls back to the scalar path when the module is missing.
+ *
+ * Complexity:
+ *  - Time: O(n / L) vector operations plus O(L) to merge lanes
+ *  - Space: O(L) extra
+ *
+ * JFR: call and phase events as in {@link BoyerMoore#findMajorityPacked(int[])}, chunks = L.
+ */
+public final class VectorBoyerMoore {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    /** Engine name reported in JFR events. */
+    static final String ENGINE_NAME = "simd";
+
+    private VectorBoyerMoore() {
+    }
+
+    /** True when the preferred species has more than one lane, i.e. vectorization can pay off. */
+    public static boolean isAccelerated() {
+        return SPECIES.length() > 1;
+    }
+
+    /**
+     * Finds the majority element (element that appears > n/2 times) if one exists.
+     *
+     * @param arr input array (must not be null)
+     * @return OptionalInt.of(majority) if majority exists, otherwise OptionalInt.empty()
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static OptionalInt findMajority(int[] arr) {
+        return MajorityResult.toOptional(findMajorityPacked(arr));
+    }
+
+    /**
+     * Allocation-free form of {@link #findMajority(int[])}.
+     *
+     * @return packed {@link MajorityResult}: the majority, or {@link MajorityResult#NONE}
+     * @throws IllegalArgumentException if arr is null
+     */
+    public static long findMajorityPacked(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Input array must not be null");
+        }
+        int n = arr.length;
+        int lanes = SPECIES.length();
+        MajorityCallEvent call = new MajorityCallEvent();
+        call.begin();
+        MajorityPhaseEvent phase = new MajorityPhaseEvent();
+        phase.begin();
+        long candidate = candidate(arr);
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.CANDIDATE, n, lanes, -1);
+        if (!MajorityResult.isPresent(candidate)) {
+            call.end(ENGINE_NAME, n, lanes, -1, false);
+            return MajorityResult.NONE;
+        }
+        phase = new MajorityPhaseEvent();
+        phase.begin();
+        int stop = confirmMajority(arr, (int) candidate, n / 2 + 1);
+        phase.end(ENGINE_NAME, MajorityPhaseEvent.VERIFY, n, lanes, stop);
+        call.end(ENGINE_NAME, n, lanes, stop, stop >= 0);
+        return stop >= 0 ? candidate : MajorityResult.NONE;
+    }
+
+    /**
+     * First pass: lane-wise candidate selection, merged into a single candidate.
+     *
+     * @return packed candidate, or {@link MajorityResult#NONE} when every element was cancelled
+     */
+    static long candidate(int[] arr) {
+        int lanes = SPECIES.length();
+        int bound = SPECIES.loopBound(arr.length);
+        IntVector candidates = IntVector.zero(SPECIES);
+        IntVector counts = IntVector.zero(SPECIES);
+        IntVector minusOne = IntVector.broadcast(SPECIES, -1);
+
+        for (int i = 0; i < bound; i += lanes) {
+            IntVector v = IntVector.fromArray(SPECIES, arr, i);
+            // lanes with count == 0 take the current value as their new candidate
+            VectorMask<Integer> empty = counts.compare(VectorOperators.EQ, 0);
+            candidates = candidates.blend(v, empty);
+            // +1 where the value matches (always true for a fresh candidate), -1 elsewhere
+            VectorMask<Integer> match = v.compare(VectorOperators.EQ, candidates);
+            counts = counts.add(minusOne.blend(1, match));
+        }
+
+        // scalar tail, then fold the lane votes in with the Vote pairing rule
+        long vote = Vote.packedOf(arr, bound, arr.length);
+        for (int lane = 0; lane < lanes; lane++) {
+            vote = Vote.mergePacked(vote, Vote.pack(candidates.lane(lane), counts.lane(lane)));
+        }
+        return Vote.countOf(vote) == 0 ? MajorityResult.NONE : MajorityResult.of(Vote.candidateOf(vote));
+    }
+
+    /**
+     * Second pass: counts candidate with a broadcast compare and mask popcount.
+     *
+     * @return index where the scan stopped (exclusive) if confirmed, otherwise -1
+     */
+    static int confirmMajority(int[] arr, int candidate, int needed) {
+        int n = arr.length;
+        int lanes = SPECIES.length();
+        IntVector target = IntVector.broadcast(SPECIES, candidate);
+        int occurrences = 0;
+
+        for (int start = 0; start < n; start += BoyerMoore.VERIFY_BLOCK) {
+            int end = Math.min(n, start + BoyerMoore.VERIFY_BLOCK);
+            int bound = start + SPECIES.loopBound(end - start);
+            int i = start;
+            for (; i < bound; i += lanes) {
+                occurrences += IntVector.fromArray(SPECIES, arr, i)
+                        .compare(VectorOperators.EQ, target)
+                        .trueCount();
+            }
+            occurrences += BoyerMoore.countOccurrences(arr, i, end, candidate);
+            if (occurrences >= needed) {
+                return end;
+            }
+            // not enough elements left to reach the threshold
+            if (occurrences + (n - end) < needed) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,20 @@
+package algorithms;
+
+/**
+ * Verification — how the candidate from the first Boyer–Moore pass is checked.
+ *
+ *  - ASSUME_MAJORITY: no second pass. For callers who know a majority exists; with no
+ *    majority the returned value is arbitrary. Only an input whose votes cancel out
+ *    completely is still reported as "no majority".
+ *  - EXACT: full counting pass with early exit (the default behavior everywhere else).
+ *  - SAMPLED: counts the candidate at random positions first and rejects it when the sample
+ *    makes a majority statistically implausible; otherwise falls through to EXACT.
+ *    A found majority is always exact; "no majority" can be wrong with the probability
+ *    bound of {@link BoyerMoore#findMajority(int[], Verification, Metrics)}.
+ *    {@link SampledBoyerMoore} samples before the candidate pass with a configurable policy.
+ */
+public enum Verification {
+    ASSUME_MAJORITY,
+    EXACT,
+    SAMPLED
+}
@@ -0,0 +1,96 @@
+package algorithms;
+
+/**
+ * Vote — the (candidate, count) state left after a Boyer–Moore candidate pass over some part of the input.
+ *
+ * A count of c means c copies of candidate are still unpaired; every other element of that part
+ * was cancelled against a different value. Two votes combine with the pairing rule
+ *  - same candidate: counts add up
+ *  - different candidates: the larger count survives, reduced by the smaller one
+ * so votes of chunks can be merged in any grouping. A true majority of the whole input always
+ * survives the merge, but the merged candidate still has to be verified.
+ *
+ * Hot loops that must not allocate use the packed form instead: one long with the count in the
+ * high 32 bits and the candidate in the low 32 ({@link #pack}, {@link #packedOf},
+ * {@link #mergePacked}). Packed counts must stay below 2^32, which holds for any vote over
+ * part of a single array.
+ *
+ * @param candidate surviving value (meaningless when count == 0)
+ * @param count     number of unpaired copies of candidate
+ */
+public record Vote(int candidate, long count) {
+    /** Vote of an empty input. */
+    public static final Vote EMPTY = new Vote(0, 0);
+
+    /** Runs the candidate pass over arr[from, to) and returns the resulting vote. */
+    public static Vote of(int[] arr, int from, int to) {
+        return unpack(packedOf(arr, from, to));
+    }
+
+    /** Combines two votes with the pairing rule; any grouping of chunk votes keeps a true majority. */
+    public static Vote merge(Vote a, Vote b) {
+        if (a.count == 0) return b;
+        if (b.count == 0) return a;
+        if (a.candidate == b.candidate) {
+            return new Vote(a.candidate, a.count + b.count);
+        }
+        return a.count >= b.count
+                ? new Vote(a.candidate, a.count - b.count)
+                : new Vote(b.candidate, b.count - a.count);
+    }
+
+    /** Packs a vote whose count is below 2^32 into one long. */
+    public static long pack(int candidate, long count) {
+        return (count << 32) | (candidate & 0xFFFFFFFFL);
+    }
+
+    /** Candidate of a packed vote. */
+    public static int candidateOf(long packed) {
+        return (int) packed;
+    }
+
+    /** Count of a packed vote. */
+    public static long countOf(long packed) {
+        return packed >>> 32;
+    }
+
+    /** The vote of a packed state. */
+    public static Vote unpack(long packed) {
+        return new Vote(candidateOf(packed), countOf(packed));
+    }
+
+    /** {@link #of(int[], int, int)} in packed form. */
+    public static long packedOf(int[] arr, int from, int to) {
+        int candidate = 0;
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            int v = arr[i];
+            if (count == 0) {
+                candidate = v;
+                count = 1;
+            } else if (v == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return pack(candidate, count);
+    }
+
+    /** {@link #merge(Vote, Vote)} on packed votes; the summed count must stay below 2^32. */
+    public static long mergePacked(long a, long b) {
+        long ca = countOf(a);
+        long cb = countOf(b);
+        if (ca == 0) return b;
+        if (cb == 0) return a;
+        if (candidateOf(a) == candidateOf(b)) {
+            return pack(candidateOf(a), ca + cb);
+        }
+        return ca >= cb ? pack(candidateOf(a), ca - cb) : pack(candidateOf(b), cb - ca);
+    }
+
+    /** True when no unpaired element is left, i.e. the part cannot contain a majority. */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+}
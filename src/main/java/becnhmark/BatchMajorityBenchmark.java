@@ -0,0 +1,82 @@
+package becnhmark;
+
+import algorithms.BatchMajority;
+import algorithms.BoyerMoore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.CountingMetrics;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static cli.CLI.generateArrayWithRandomMajority;
+
+/**
+ * Per-call API against the batch API on many small arrays (sizes as in CLI.SIZES).
+ * Run with the GC profiler to compare allocation rates:
+ * {@code JMHRunner BatchMajorityBenchmark gc} (gc.alloc.rate.norm is bytes per batch).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BatchMajorityBenchmark {
+    private static final int[] SIZES = {100, 500, 1000, 5000, 10000};
+
+    @Param({"1000", "10000"})
+    private int batchSize;
+
+    private int[][] arrays;
+    private int[] values;
+    private long[] found;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        arrays = new int[batchSize][];
+        for (int i = 0; i < batchSize; i++) {
+            arrays[i] = generateArrayWithRandomMajority(SIZES[random.nextInt(SIZES.length)], random);
+        }
+        values = new int[batchSize];
+        found = new long[BatchMajority.foundWords(batchSize)];
+        pool = new ForkJoinPool();
+    }
+
+    /** Today's pattern: one Metrics and one Optional per array. */
+    @Benchmark
+    public void measurePerCallInstrumented(Blackhole blackhole) {
+        for (int[] arr : arrays) {
+            Optional<Integer> result = BoyerMoore.findMajority(arr, new CountingMetrics());
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    public void measurePerCallFast(Blackhole blackhole) {
+        for (int[] arr : arrays) {
+            blackhole.consume(BoyerMoore.findMajorityFast(arr));
+        }
+    }
+
+    @Benchmark
+    public void measureBatchSequential(Blackhole blackhole) {
+        BatchMajority.findMajorityBatch(arrays, values, found, null);
+        blackhole.consume(found);
+    }
+
+    @Benchmark
+    public void measureBatchParallel(Blackhole blackhole) {
+        BatchMajority.findMajorityBatch(arrays, values, found, pool);
+        blackhole.consume(found);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+}
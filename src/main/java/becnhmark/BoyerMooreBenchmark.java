@@ -1,11 +1,13 @@
 package becnhmark;
 
 import algorithms.BoyerMoore;
+import algorithms.TypedBoyerMoore;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 import utils.Metrics;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -22,14 +24,32 @@ public class BoyerMooreBenchmark {
     @Param({"100", "500", "1000", "5000", "10000"})
     private int size;
 
+    @Param({"none", "counting", "striped"})
+    private String metricsSink;
+
     private int[] arr;
+    private long[] longArr;
+    private short[] shortArr;
+    private byte[] byteArr;
+    private Integer[] boxedArr;
     private Metrics metrics;
 
     @Setup
     public void setUp() {
         Random random = new Random();
-        metrics = new Metrics();
+        metrics = Metrics.of(metricsSink);
         arr = generateArrayWithRandomMajority(size, random);
+        // same values for the typed variants (generator values are 0-99, so they fit a byte)
+        longArr = new long[size];
+        shortArr = new short[size];
+        byteArr = new byte[size];
+        boxedArr = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            longArr[i] = arr[i];
+            shortArr[i] = (short) arr[i];
+            byteArr[i] = (byte) arr[i];
+            boxedArr[i] = arr[i];
+        }
     }
 
     @Benchmark
@@ -38,8 +58,34 @@ public class BoyerMooreBenchmark {
         blackhole.consume(result);
     }
 
-    @TearDown
+    @Benchmark
+    public void measureFindMajorityFast(Blackhole blackhole) {
+        OptionalInt result = BoyerMoore.findMajorityFast(arr);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void measureFindMajorityLong(Blackhole blackhole) {
+        blackhole.consume(TypedBoyerMoore.findMajority(longArr, metrics));
+    }
+
+    @Benchmark
+    public void measureFindMajorityShort(Blackhole blackhole) {
+        blackhole.consume(TypedBoyerMoore.findMajorityPacked(shortArr, metrics));
+    }
+
+    @Benchmark
+    public void measureFindMajorityByte(Blackhole blackhole) {
+        blackhole.consume(TypedBoyerMoore.findMajorityPacked(byteArr, metrics));
+    }
+
+    @Benchmark
+    public void measureFindMajorityObject(Blackhole blackhole) {
+        blackhole.consume(TypedBoyerMoore.findMajority(boxedArr, metrics));
+    }
+
+    @TearDown(Level.Iteration)
     public void tearDown() {
-        metrics.reset(); // reset metrics after each start
+        metrics.reset(); // reset metrics after each iteration, so counters never accumulate over a whole trial
     }
 }
@@ -0,0 +1,104 @@
+package becnhmark;
+
+import algorithms.ConcurrentMajorityAccumulator;
+import algorithms.MajorityAccumulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of feeding one shared majority question from 1-8 threads: per-thread producer
+ * cells against one MajorityAccumulator behind a lock.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentAccumulatorBenchmark {
+    private static final int EVENTS = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final ConcurrentMajorityAccumulator concurrent = new ConcurrentMajorityAccumulator();
+        final MajorityAccumulator locked = new MajorityAccumulator();
+    }
+
+    @State(Scope.Thread)
+    public static class Feed {
+        int[] events;
+        int next;
+        ConcurrentMajorityAccumulator.Producer producer;
+
+        @Setup
+        public void setUp(Shared shared) {
+            Random random = new Random(Thread.currentThread().threadId());
+            events = new int[EVENTS];
+            for (int i = 0; i < EVENTS; i++) {
+                events[i] = random.nextInt(100) < 60 ? 1 : random.nextInt(50);
+            }
+            producer = shared.concurrent.producer();
+        }
+
+        int nextEvent() {
+            int v = events[next];
+            next = (next + 1) & (EVENTS - 1);
+            return v;
+        }
+    }
+
+    private static void feedLocked(Shared shared, Feed feed) {
+        synchronized (shared.locked) {
+            shared.locked.accept(feed.nextEvent());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void producer1(Feed feed) {
+        feed.producer.accept(feed.nextEvent());
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void producer2(Feed feed) {
+        feed.producer.accept(feed.nextEvent());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void producer4(Feed feed) {
+        feed.producer.accept(feed.nextEvent());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void producer8(Feed feed) {
+        feed.producer.accept(feed.nextEvent());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void locked1(Shared shared, Feed feed) {
+        feedLocked(shared, feed);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void locked2(Shared shared, Feed feed) {
+        feedLocked(shared, feed);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void locked4(Shared shared, Feed feed) {
+        feedLocked(shared, feed);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void locked8(Shared shared, Feed feed) {
+        feedLocked(shared, feed);
+    }
+}
@@ -0,0 +1,65 @@
+package becnhmark;
+
+import algorithms.HeavyHitters;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static cli.CLI.generateArrayWithHeavyHitters;
+
+/**
+ * Misra–Gries heavy hitters (sequential and fork/join) against a boxed HashMap count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class HeavyHittersBenchmark {
+
+    @Param({"100000", "10000000"})
+    private int size;
+
+    @Param({"2", "4", "16", "64"})
+    private int k;
+
+    private int[] arr;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        arr = generateArrayWithHeavyHitters(size, k, new Random(42));
+        pool = new ForkJoinPool();
+    }
+
+    @Benchmark
+    public void measureSequential(Blackhole blackhole) {
+        blackhole.consume(HeavyHitters.find(arr, k, null));
+    }
+
+    @Benchmark
+    public void measureParallel(Blackhole blackhole) {
+        blackhole.consume(HeavyHitters.find(arr, k, pool, null));
+    }
+
+    @Benchmark
+    public void measureBoxedHashMap(Blackhole blackhole) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int v : arr) {
+            counts.merge(v, 1, Integer::sum);
+        }
+        counts.values().removeIf(c -> (long) c * k <= arr.length);
+        blackhole.consume(counts);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+}
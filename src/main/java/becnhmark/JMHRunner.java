@@ -1,29 +1,146 @@
 package becnhmark;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 public class JMHRunner {
-    public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(BoyerMooreBenchmark.class.getSimpleName())
+    /** Size of the largest suite input; 4 GB of ints, so it only runs with --large. */
+    static final String LARGE_SIZE = "1000000000";
+    /** Where gate mode writes its JMH JSON when no --json path is given. */
+    static final String GATE_RESULT = "target/jmh-gate.json";
+
+    /**
+     * Runs the JMH benchmarks.
+     *
+     * @param args optional benchmark include regex, e.g. "MajoritySuiteBenchmark"
+     *             (defaults to BoyerMooreBenchmark), followed by JMH profiler names such as
+     *             "gc" for allocation rates or "perfasm" for hot assembly, and these options:
+     *             <ul>
+     *               <li>{@code --mode <thrpt|avgt|sample|ss>}: override the benchmarks' own modes</li>
+     *               <li>{@code --sizes <a,b,...>}: override the {@code size} parameter</li>
+     *               <li>{@code --large}: 8 GB heap and a 10^9-element size for the suite</li>
+     *               <li>{@code --quick}: 1 warm-up and 3 measurement iterations instead of 5 and 5</li>
+     *               <li>{@code --forks <n>}: JVM forks per benchmark instead of 1</li>
+     *               <li>{@code --param <name=v1,v2>}: override any other benchmark parameter</li>
+     *               <li>{@code --json <path>}: also write the results as JMH JSON</li>
+     *               <li>{@code --gate <baseline.json>}: compare the run against a baseline with
+     *                   {@link RegressionGate} (JSON goes to {@value #GATE_RESULT} unless --json
+     *                   is given) and exit with status 1 on a regression</li>
+     *               <li>{@code --threshold <fraction>}: gate threshold, default 0.25</li>
+     *             </ul>
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        List<String> runArgs = new ArrayList<>();
+        String baseline = null;
+        String result = null;
+        double threshold = RegressionGate.DEFAULT_THRESHOLD;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--gate" -> baseline = value(args, ++i, "--gate");
+                case "--threshold" -> threshold = Double.parseDouble(value(args, ++i, "--threshold"));
+                case "--json" -> result = value(args, ++i, "--json");
+                default -> runArgs.add(args[i]);
+            }
+        }
+        if (baseline == null) {
+            if (result != null) {
+                runArgs.addAll(List.of("--json", result));
+            }
+            new Runner(options(runArgs.toArray(String[]::new)).build()).run();
+            return;
+        }
+        List<RegressionGate.Comparison> comparisons =
+                gate(runArgs.toArray(String[]::new), Path.of(baseline),
+                Path.of(result != null ? result : GATE_RESULT), threshold);
+        System.out.print(RegressionGate.report(comparisons, threshold));
+        if (!RegressionGate.regressions(comparisons).isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the benchmarks selected by args, writes their JMH JSON to result and compares it
+     * against baseline.
+     */
+    static List<RegressionGate.Comparison> gate(String[] args, Path baseline, Path result, double threshold)
+            throws RunnerException, IOException {
+        Path parent = result.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new Runner(options(args).resultFormat(ResultFormatType.JSON).result(result.toString()).build()).run();
+        return RegressionGate.compare(RegressionGate.read(baseline), RegressionGate.read(result), threshold);
+    }
+
+    /**
+     * Builds the options for the given arguments (see {@link #main(String[])}).
+     *
+     * @throws IllegalArgumentException for an option without its value
+     */
+    static ChainedOptionsBuilder options(String[] args) {
+        String include = args.length > 0 ? args[0] : BoyerMooreBenchmark.class.getSimpleName();
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(include)
                 .warmupIterations(5)
                 .warmupTime(TimeValue.valueOf("1s"))
                 .measurementIterations(5)
                 .measurementTime(TimeValue.valueOf("1s"))
                 .forks(1)
-                .jvmArgs("-Xms2g", "-Xmx2g")
-                .mode(Mode.AverageTime)
-                .timeUnit(TimeUnit.MICROSECONDS)
-                .shouldDoGC(true)
-                .build();
+                .shouldDoGC(true);
+        String heap = "2g";
+        List<String> sizes = new ArrayList<>();
+        boolean perfasm = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode" -> builder.mode(Mode.deepValueOf(value(args, ++i, "--mode")));
+                case "--sizes" -> sizes.addAll(List.of(value(args, ++i, "--sizes").split(",")));
+                case "--large" -> {
+                    heap = "8g";
+                    sizes.addAll(List.of("1000000", "100000000", LARGE_SIZE));
+                }
+                case "--param" -> {
+                    String param = value(args, ++i, "--param");
+                    int eq = param.indexOf('=');
+                    if (eq <= 0) {
+                        throw new IllegalArgumentException("--param needs name=v1,v2, got " + param);
+                    }
+                    builder.param(param.substring(0, eq), param.substring(eq + 1).split(","));
+                }
+                case "--quick" -> builder.warmupIterations(1).measurementIterations(3);
+                case "--forks" -> builder.forks(Integer.parseInt(value(args, ++i, "--forks")));
+                case "--json" -> builder.resultFormat(ResultFormatType.JSON).result(value(args, ++i, "--json"));
+                default -> {
+                    perfasm |= args[i].equals("perfasm");
+                    builder.addProfiler(args[i]);
+                }
+            }
+        }
+        if (!sizes.isEmpty()) {
+            builder.param("size", sizes.stream().distinct().toArray(String[]::new));
+        }
+        builder.jvmArgs("-Xms" + heap, "-Xmx" + heap, "--add-modules=jdk.incubator.vector");
+        if (perfasm) {
+            //lets perfasm attribute samples to the right source lines inside inlined loops
+            builder.jvmArgsAppend("-XX:+UnlockDiagnosticVMOptions", "-XX:+DebugNonSafepoints");
+        }
+        return builder;
+    }
 
-        new Runner(opt).run();
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[i];
     }
 }
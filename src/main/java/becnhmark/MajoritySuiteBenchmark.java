@@ -0,0 +1,77 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.Engine;
+import cli.Distribution;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.Metrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full matrix of engine × input distribution × size, measured as throughput and as sampled
+ * latency (percentiles per call).
+ *
+ *  - engine:       instrumented ({@link BoyerMoore#findMajority(int[], Metrics)} with a counting
+ *                  sink), fast ({@link BoyerMoore#findMajorityPacked(int[])}), parallel, simd
+ *  - distribution: the {@link Distribution} labels used by CLI plans (majority, no-majority,
+ *                  sorted, alternating, zipf), generated with a fixed seed
+ *  - size:         up to 10^8 by default; {@code JMHRunner MajoritySuiteBenchmark --large}
+ *                  adds 10^9 with an 8 GB heap
+ *
+ * Input is generated once per trial; the counting sink is reset after every iteration so the
+ * instrumented engine never measures overflowing counters. Results are returned packed (or
+ * as the engine's own result type) to the Blackhole so nothing but the engine allocates,
+ * which keeps {@code -prof gc} numbers attributable to the engines themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class MajoritySuiteBenchmark {
+
+    /** Seed of every generated input, so runs and baselines see identical arrays. */
+    public static final long SEED = 42;
+
+    @Param({"instrumented", "fast", "parallel", "simd"})
+    private String engine;
+
+    @Param({"majority", "no-majority", "sorted", "alternating", "zipf"})
+    private String distribution;
+
+    @Param({"1000", "1000000", "100000000"})
+    private int size;
+
+    private int[] arr;
+    private Engine fastEngine;
+    private Metrics metrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arr = Distribution.of(distribution).generate(size, SEED);
+        metrics = Metrics.of("counting");
+        fastEngine = switch (engine) {
+            case "instrumented" -> null;
+            case "fast" -> Engine.SEQUENTIAL;
+            default -> Engine.of(engine);
+        };
+    }
+
+    @Benchmark
+    public void measureMajority(Blackhole blackhole) {
+        if (fastEngine == null) {
+            blackhole.consume(BoyerMoore.findMajority(arr, metrics));
+        } else {
+            blackhole.consume(fastEngine.findMajorityPacked(arr, ForkJoinPool.commonPool()));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void resetMetrics() {
+        metrics.reset();
+    }
+}
@@ -0,0 +1,79 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.OffHeapBoyerMoore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static cli.CLI.generateArrayWithRandomMajority;
+
+/**
+ * Heap int[] fast path against the off-heap overloads on the same values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class OffHeapBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private int[] arr;
+    private Arena arena;
+    private MemorySegment segment;
+    private IntBuffer intBuffer;
+    private ByteBuffer bigEndianBuffer;
+
+    @Setup
+    public void setUp() {
+        arr = generateArrayWithRandomMajority(size, new Random(42));
+        arena = Arena.ofShared();
+        segment = arena.allocate((long) size * Integer.BYTES, Integer.BYTES);
+        MemorySegment.copy(arr, 0, segment, ValueLayout.JAVA_INT, 0, size);
+
+        ByteBuffer nativeOrder = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.nativeOrder());
+        nativeOrder.asIntBuffer().put(arr);
+        intBuffer = nativeOrder.asIntBuffer();
+
+        bigEndianBuffer = ByteBuffer.allocateDirect(size * Integer.BYTES).order(ByteOrder.BIG_ENDIAN);
+        bigEndianBuffer.asIntBuffer().put(arr);
+    }
+
+    @Benchmark
+    public void measureHeapArray(Blackhole blackhole) {
+        blackhole.consume(BoyerMoore.findMajorityFast(arr));
+    }
+
+    @Benchmark
+    public void measureNativeSegment(Blackhole blackhole) {
+        blackhole.consume(OffHeapBoyerMoore.findMajority(segment, ByteOrder.nativeOrder(), null));
+    }
+
+    @Benchmark
+    public void measureDirectIntBuffer(Blackhole blackhole) {
+        blackhole.consume(OffHeapBoyerMoore.findMajority(intBuffer, null));
+    }
+
+    @Benchmark
+    public void measureDirectByteBufferSwapped(Blackhole blackhole) {
+        // big-endian on a little-endian machine: every read byte-swaps
+        blackhole.consume(OffHeapBoyerMoore.findMajority(bigEndianBuffer, ByteOrder.BIG_ENDIAN, null));
+    }
+
+    @TearDown
+    public void tearDown() {
+        arena.close();
+    }
+}
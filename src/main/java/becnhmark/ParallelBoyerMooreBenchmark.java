@@ -0,0 +1,54 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.ParallelBoyerMoore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static cli.CLI.generateArrayWithRandomMajority;
+
+/**
+ * Speedup of the fork/join engine over the sequential fast path for different worker counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ParallelBoyerMooreBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private int[] arr;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        arr = generateArrayWithRandomMajority(size, new Random(42));
+        pool = new ForkJoinPool(threads);
+    }
+
+    @Benchmark
+    public void measureParallel(Blackhole blackhole) {
+        blackhole.consume(ParallelBoyerMoore.findMajority(arr, pool));
+    }
+
+    @Benchmark
+    public void measureSequentialFast(Blackhole blackhole) {
+        blackhole.consume(BoyerMoore.findMajorityFast(arr));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,67 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.RangeMajorityIndex;
+import cli.CLI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one range-majority query: the prebuilt index (for several block sizes) against
+ * copying the slice and running findMajorityPacked on it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class RangeMajorityBenchmark {
+    private static final int QUERIES = 1 << 12;
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1000", "100000"})
+    private int rangeLength;
+
+    @Param({"1", "16", "256"})
+    private int blockSize;
+
+    private int[] arr;
+    private int[] froms;
+    private RangeMajorityIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        arr = CLI.generateArrayWithMajority(size, new Random(42));
+        index = new RangeMajorityIndex(arr, blockSize);
+        Random random = new Random(7);
+        froms = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            froms[i] = random.nextInt(size - rangeLength + 1);
+        }
+    }
+
+    private int nextFrom() {
+        int from = froms[next];
+        next = (next + 1) & (QUERIES - 1);
+        return from;
+    }
+
+    @Benchmark
+    public long measureIndexQuery() {
+        int from = nextFrom();
+        return index.majorityPacked(from, from + rangeLength);
+    }
+
+    @Benchmark
+    public long measureCopyAndScan() {
+        int from = nextFrom();
+        return BoyerMoore.findMajorityPacked(Arrays.copyOfRange(arr, from, from + rangeLength));
+    }
+}
@@ -0,0 +1,396 @@
+package becnhmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * RegressionGate — compares a JMH JSON run against a stored baseline.
+ *
+ * Behavior:
+ *  - Results are matched by benchmark, mode and parameters; benchmarks present in only one
+ *    file are reported as NEW or MISSING but never fail the gate, so a subset can be run.
+ *  - A result REGRESSED when both hold:
+ *      1) the 99.9% confidence intervals (score ± scoreError, as JMH reports them) do not
+ *         overlap, and the current interval lies on the worse side — so the slowdown is
+ *         statistically significant, not scheduler noise;
+ *      2) the score is worse by more than the threshold (e.g. 0.25 = 25%), so significant
+ *         but tiny shifts do not fail the build.
+ *    The mirror case is IMPROVED; everything else is UNCHANGED.
+ *  - Higher is better for thrpt, lower for avgt, sample and ss.
+ *  - A missing or NaN scoreError (a single iteration) is treated as a zero-width interval.
+ *
+ * Input files are either plain JMH JSON arrays or the annotated baseline form
+ * {"_meta": {...}, "results": [...]}. Parsing uses the small reader below, so the gate needs
+ * nothing beyond the JDK and works offline.
+ */
+public final class RegressionGate {
+
+    /** Default relative slowdown a significant change must exceed to fail the gate. */
+    public static final double DEFAULT_THRESHOLD = 0.25;
+
+    /** Outcome of one benchmark. */
+    public enum Verdict { REGRESSED, IMPROVED, UNCHANGED, NEW, MISSING }
+
+    /** One JMH result: benchmark/mode/params key and the primary score with its error. */
+    public record Score(String key, String mode, double score, double error, String unit) {
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+
+        double low() {
+            return score - errorOrZero();
+        }
+
+        double high() {
+            return score + errorOrZero();
+        }
+
+        private double errorOrZero() {
+            return Double.isFinite(error) ? error : 0;
+        }
+    }
+
+    /** A baseline/current pair; either side is null for NEW/MISSING. */
+    public record Comparison(String key, Score baseline, Score current, Verdict verdict) {
+        /** Relative change in the "worse" direction: +0.30 means 30% slower, -0.10 means 10% faster. */
+        public double slowdown() {
+            return baseline == null || current == null ? Double.NaN : RegressionGate.slowdown(baseline, current);
+        }
+    }
+
+    private RegressionGate() {
+    }
+
+    /**
+     * Reads the primary scores of a JMH JSON result file (plain or wrapped baseline form).
+     *
+     * @throws IllegalArgumentException if the file is not valid JMH JSON
+     */
+    public static List<Score> read(Path file) throws IOException {
+        return parse(Files.readString(file));
+    }
+
+    /** Same as {@link #read(Path)} for JSON text. */
+    public static List<Score> parse(String json) {
+        Object root = new JsonReader(json).readDocument();
+        if (root instanceof Map<?, ?> wrapped) {
+            root = wrapped.get("results");
+        }
+        if (!(root instanceof List<?> results)) {
+            throw new IllegalArgumentException("Expected a JMH result array or an object with \"results\"");
+        }
+        List<Score> scores = new ArrayList<>(results.size());
+        for (Object item : results) {
+            Map<?, ?> result = (Map<?, ?>) item;
+            Map<?, ?> primary = (Map<?, ?>) result.get("primaryMetric");
+            String mode = (String) result.get("mode");
+            scores.add(new Score(key(result, mode), mode, number(primary.get("score")),
+                    number(primary.get("scoreError")), (String) primary.get("scoreUnit")));
+        }
+        return scores;
+    }
+
+    /**
+     * Compares current against baseline.
+     *
+     * @param threshold relative slowdown (0.25 = 25%) a significant change must exceed
+     * @return one comparison per key, baseline order first, then NEW results
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public static List<Comparison> compare(List<Score> baseline, List<Score> current, double threshold) {
+        if (!(threshold >= 0)) {
+            throw new IllegalArgumentException("Threshold must be >= 0, got " + threshold);
+        }
+        Map<String, Score> currentByKey = new LinkedHashMap<>();
+        for (Score score : current) {
+            currentByKey.put(score.key(), score);
+        }
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Score base : baseline) {
+            Score now = currentByKey.remove(base.key());
+            comparisons.add(new Comparison(base.key(), base, now, now == null ? Verdict.MISSING : verdict(base, now, threshold)));
+        }
+        for (Score added : currentByKey.values()) {
+            comparisons.add(new Comparison(added.key(), null, added, Verdict.NEW));
+        }
+        return comparisons;
+    }
+
+    private static Verdict verdict(Score base, Score now, double threshold) {
+        //intervals must be disjoint, with the current one on the worse side
+        boolean worse = base.higherIsBetter() ? now.high() < base.low() : now.low() > base.high();
+        boolean better = base.higherIsBetter() ? now.low() > base.high() : now.high() < base.low();
+        double slowdown = slowdown(base, now);
+        if (worse && slowdown > threshold) {
+            return Verdict.REGRESSED;
+        }
+        if (better && -slowdown > threshold) {
+            return Verdict.IMPROVED;
+        }
+        return Verdict.UNCHANGED;
+    }
+
+    private static double slowdown(Score base, Score now) {
+        double delta = (now.score() - base.score()) / base.score();
+        return base.higherIsBetter() ? -delta : delta;
+    }
+
+    /** Comparisons that fail the gate. */
+    public static List<Comparison> regressions(List<Comparison> comparisons) {
+        return comparisons.stream().filter(c -> c.verdict() == Verdict.REGRESSED).toList();
+    }
+
+    /**
+     * Aligned text table of the compared benchmarks, regressions marked with "!!"; baseline
+     * benchmarks that were not run are only counted.
+     */
+    public static String report(List<Comparison> comparisons, double threshold) {
+        List<Comparison> shown = comparisons.stream().filter(c -> c.verdict() != Verdict.MISSING).toList();
+        int width = shown.stream().mapToInt(c -> c.key().length()).max().orElse(9);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "   %-" + width + "s  %24s  %24s  %8s  %s%n",
+                "Benchmark", "Baseline", "Current", "Slower", "Verdict"));
+        for (Comparison c : shown) {
+            sb.append(String.format(Locale.ROOT, "%s %-" + width + "s  %24s  %24s  %8s  %s%n",
+                    c.verdict() == Verdict.REGRESSED ? "!!" : "  ", c.key(), format(c.baseline()), format(c.current()),
+                    Double.isNaN(c.slowdown()) ? "" : String.format(Locale.ROOT, "%+.1f%%", c.slowdown() * 100),
+                    c.verdict()));
+        }
+        sb.append(String.format(Locale.ROOT, "%d of %d compared benchmarks regressed by more than %.0f%% outside the error bounds",
+                regressions(comparisons).size(), shown.size(), threshold * 100));
+        int missing = comparisons.size() - shown.size();
+        if (missing > 0) {
+            sb.append(String.format(Locale.ROOT, " (%d baseline benchmarks not run)", missing));
+        }
+        return sb.append(System.lineSeparator()).toString();
+    }
+
+    private static String format(Score score) {
+        if (score == null) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.3f ± %.3f %s", score.score(),
+                Double.isFinite(score.error()) ? score.error() : 0.0, score.unit());
+    }
+
+    /**
+     * Compares two result files and prints the report.
+     *
+     * @param args baseline path, current path, optional threshold (default 0.25);
+     *             exits with status 1 when a benchmark regressed
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionGate <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        List<Comparison> comparisons = compare(read(Path.of(args[0])), read(Path.of(args[1])), threshold);
+        System.out.print(report(comparisons, threshold));
+        if (!regressions(comparisons).isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /** "MajoritySuiteBenchmark.measureMajority(distribution=majority, engine=fast, size=1000) thrpt" */
+    private static String key(Map<?, ?> result, String mode) {
+        String benchmark = (String) result.get("benchmark");
+        int method = benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1);
+        StringBuilder key = new StringBuilder(benchmark.substring(method + 1));
+        if (result.get("params") instanceof Map<?, ?> params && !params.isEmpty()) {
+            Map<String, Object> sorted = new TreeMap<>();
+            params.forEach((k, v) -> sorted.put((String) k, v));
+            key.append('(');
+            sorted.forEach((k, v) -> key.append(k).append('=').append(v).append(", "));
+            key.setLength(key.length() - 2);
+            key.append(')');
+        }
+        return key.append(' ').append(mode).toString();
+    }
+
+    /** JMH writes finite numbers as JSON numbers and NaN/Infinity as strings. */
+    private static double number(Object value) {
+        if (value instanceof Double d) {
+            return d;
+        }
+        if (value instanceof String s) {
+            return Double.parseDouble(s);
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Minimal recursive-descent JSON reader: objects become LinkedHashMap, arrays ArrayList,
+     * numbers Double, plus String, Boolean and null.
+     */
+    static final class JsonReader {
+        private final String text;
+        private int pos;
+
+        JsonReader(String text) {
+            this.text = text;
+        }
+
+        Object readDocument() {
+            Object value = readValue();
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("trailing content");
+            }
+            return value;
+        }
+
+        private Object readValue() {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw error("unexpected end of input");
+            }
+            char c = text.charAt(pos);
+            return switch (c) {
+                case '{' -> readObject();
+                case '[' -> readArray();
+                case '"' -> readString();
+                case 't' -> literal("true", Boolean.TRUE);
+                case 'f' -> literal("false", Boolean.FALSE);
+                case 'n' -> literal("null", null);
+                default -> readNumber();
+            };
+        }
+
+        private Map<String, Object> readObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("expected a member name");
+                }
+                String name = readString();
+                skipWhitespace();
+                expect(':');
+                object.put(name, readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect('}');
+                    return object;
+                }
+            }
+        }
+
+        private List<Object> readArray() {
+            List<Object> array = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return array;
+            }
+            while (true) {
+                array.add(readValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect(']');
+                    return array;
+                }
+            }
+        }
+
+        private String readString() {
+            pos++;
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                if (pos >= text.length()) {
+                    throw error("unterminated string");
+                }
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    throw error("unterminated escape");
+                }
+                char e = text.charAt(pos++);
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append(e);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > text.length()) {
+                            throw error("truncated \\u escape");
+                        }
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                    }
+                    default -> throw error("bad escape \\" + e);
+                }
+            }
+        }
+
+        private Double readNumber() {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("unexpected character '" + text.charAt(pos) + "'");
+            }
+            try {
+                return Double.parseDouble(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("bad number " + text.substring(start, pos));
+            }
+        }
+
+        private Object literal(String word, Object value) {
+            if (!text.startsWith(word, pos)) {
+                throw error("expected " + word);
+            }
+            pos += word.length();
+            return value;
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid JSON at offset " + pos + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.Engine;
+import algorithms.MajorityResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import utils.Metrics;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per call of the result forms. Meant to be run with the GC profiler:
+ * {@code JMHRunner ResultAllocationBenchmark gc}. The packed variants should report
+ * gc.alloc.rate.norm ≈ 0 B/op; the Optional&lt;Integer&gt; path allocates an Optional and,
+ * for values outside the Integer cache, an Integer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class ResultAllocationBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private int[] arr;
+
+    @Setup
+    public void setUp() {
+        // majority value 1000 is outside the Integer cache, so boxing really allocates
+        Random random = new Random(42);
+        arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = i <= size / 2 ? 1000 : random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public void measureBoxedOptional(Blackhole blackhole) {
+        blackhole.consume(BoyerMoore.findMajority(arr, Metrics.noOp()));
+    }
+
+    @Benchmark
+    public void measureOptionalInt(Blackhole blackhole) {
+        blackhole.consume(BoyerMoore.findMajorityFast(arr));
+    }
+
+    @Benchmark
+    public long measurePackedSequential() {
+        return BoyerMoore.findMajorityPacked(arr);
+    }
+
+    @Benchmark
+    public long measurePackedSimd() {
+        return Engine.SIMD.findMajorityPacked(arr, null);
+    }
+
+    @Benchmark
+    public int measurePackedUnpacked() {
+        return MajorityResult.valueOrElse(BoyerMoore.findMajorityPacked(arr), -1);
+    }
+}
@@ -0,0 +1,73 @@
+package becnhmark;
+
+import algorithms.BoyerMoore;
+import algorithms.SlidingWindowMajority;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one push + majority query: incremental window against re-running
+ * findMajorityFast over a copy of the window for every event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class SlidingWindowBenchmark {
+    private static final int EVENTS = 1 << 16;
+
+    @Param({"100", "1000", "10000"})
+    private int window;
+
+    private int[] events;
+    private int next;
+    private SlidingWindowMajority incremental;
+    private int[] naiveRing;
+    private int[] naiveWindow;
+    private int naiveHead;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        events = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            // drifting majority: value 1 dominates in some stretches, noise in others
+            events[i] = (i / 5000) % 2 == 0 && random.nextInt(100) < 60 ? 1 : random.nextInt(50);
+        }
+        incremental = new SlidingWindowMajority(window);
+        naiveRing = new int[window];
+        naiveWindow = new int[window];
+        for (int i = 0; i < window; i++) {
+            incremental.push(events[i]);
+            naiveRing[i] = events[i];
+        }
+        next = window;
+    }
+
+    private int nextEvent() {
+        int v = events[next];
+        next = (next + 1) & (EVENTS - 1);
+        return v;
+    }
+
+    @Benchmark
+    public void measureIncremental(Blackhole blackhole) {
+        incremental.push(nextEvent());
+        blackhole.consume(incremental.hasMajority());
+    }
+
+    @Benchmark
+    public void measureNaiveRecompute(Blackhole blackhole) {
+        naiveRing[naiveHead] = nextEvent();
+        naiveHead = (naiveHead + 1) % window;
+        // the window must be handed over as one array, oldest first
+        System.arraycopy(naiveRing, naiveHead, naiveWindow, 0, window - naiveHead);
+        System.arraycopy(naiveRing, 0, naiveWindow, window - naiveHead, naiveHead);
+        blackhole.consume(BoyerMoore.findMajorityFast(naiveWindow).isPresent());
+    }
+}
@@ -0,0 +1,40 @@
+package becnhmark;
+
+import algorithms.Engine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static cli.CLI.generateArrayWithRandomMajority;
+
+/**
+ * Scalar fast path against the Vector API engine (both single-threaded).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class VectorBoyerMooreBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "SIMD"})
+    private Engine engine;
+
+    private int[] arr;
+
+    @Setup
+    public void setUp() {
+        arr = generateArrayWithRandomMajority(size, new Random(42));
+    }
+
+    @Benchmark
+    public void measureFindMajority(Blackhole blackhole) {
+        blackhole.consume(engine.findMajority(arr));
+    }
+}
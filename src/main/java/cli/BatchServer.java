@@ -0,0 +1,264 @@
+package cli;
+
+import algorithms.Engine;
+import algorithms.MajorityResult;
+import algorithms.MappedFileMajority;
+import utils.LatencyRegistry;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+
+/**
+ * BatchServer — long-running mode of the CLI that answers many majority jobs in one JVM,
+ * so startup and JIT warm-up are paid once.
+ *
+ * Protocol: one job per line, one response line per job, written as soon as the job finishes
+ * (so responses may come back out of order; the id ties them together).
+ *  - {@code <id> values <engine> <v1> <v2> ...}  majority of the listed values
+ *  - {@code <id> random <engine> <size> [seed]}  majority of a generated array (fixed majority = 1)
+ *  - {@code <id> file <path>}                    majority of a binary int32 little-endian file
+ *  - {@code <id> ping}
+ *  - {@code <id> stats}                          latency/throughput snapshot of all jobs so far
+ * Responses are {@code <id> ok <majority|none> <elapsedNanos>}, {@code <id> ok pong},
+ * {@code <id> ok <json>} (see {@link LatencyRegistry#writeJson(Appendable)}) or
+ * {@code <id> error <message>}. Blank lines and lines starting with '#' are ignored.
+ * Engines are the names accepted by {@link Engine#of(String)}.
+ *
+ * Every job runs on its own virtual thread. At most maxInFlight jobs run at once across all
+ * connections; when the limit is reached the reader stops taking input until a job finishes,
+ * which pushes back on the client through the pipe or socket.
+ */
+public class BatchServer implements AutoCloseable {
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyRegistry latency = new LatencyRegistry();
+
+    /**
+     * @param maxInFlight maximum number of jobs running at the same time, at least 1
+     * @throws IllegalArgumentException if maxInFlight < 1
+     */
+    public BatchServer(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, got " + maxInFlight);
+        }
+        permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Reads jobs from in until end of input and writes every response to out.
+     * Returns once all jobs read from in have been answered.
+     */
+    public void serve(BufferedReader in, Writer out) throws IOException, InterruptedException {
+        Phaser pending = new Phaser(1);
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String job = line.strip();
+                if (job.isEmpty() || job.startsWith("#")) {
+                    continue;
+                }
+                permits.acquire(); // backpressure: stop reading while the server is full
+                pending.register();
+                executor.execute(() -> {
+                    try {
+                        String response;
+                        VirtualMachineError fatal = null;
+                        try {
+                            response = handle(job);
+                        } catch (Throwable e) {
+                            //answer the id anyway, a client waiting on it would hang otherwise
+                            response = errorResponse(job.split("\\s+", 2)[0], e);
+                            if (e instanceof VirtualMachineError vmError) {
+                                fatal = vmError;
+                            }
+                        }
+                        synchronized (out) {
+                            out.write(response);
+                            out.write('\n');
+                            out.flush();
+                        }
+                        if (fatal != null) {
+                            throw fatal;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        permits.release();
+                        pending.arriveAndDeregister();
+                    }
+                });
+            }
+        } finally {
+            pending.arriveAndAwaitAdvance();
+        }
+    }
+
+    /**
+     * Accepts connections on a Unix-domain socket at path and serves each one on its own
+     * virtual thread; runs until the thread is interrupted or the socket fails.
+     * An existing file at path is replaced; the socket file is deleted on exit.
+     */
+    public void serveSocket(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(path));
+            while (!Thread.currentThread().isInterrupted()) {
+                SocketChannel client = server.accept();
+                executor.execute(() -> {
+                    try (client;
+                         BufferedReader in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+                         Writer out = Channels.newWriter(client, StandardCharsets.UTF_8)) {
+                        serve(in, out);
+                    } catch (IOException e) {
+                        System.err.println("Connection failed: " + e.getMessage());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /** Runs one job line and returns its response line (never throws for a bad job). */
+    String handle(String job) {
+        String[] tokens = job.split("\\s+");
+        String id = tokens[0];
+        try {
+            if (tokens.length < 2) {
+                throw new IllegalArgumentException("missing operation");
+            }
+            switch (tokens[1]) {
+                case "ping" -> {
+                    return id + " ok pong";
+                }
+                case "stats" -> {
+                    StringBuilder json = new StringBuilder();
+                    latency.writeJson(json);
+                    return id + " ok " + json;
+                }
+                case "values" -> {
+                    requireArgs(tokens, 3);
+                    int[] arr = new int[tokens.length - 3];
+                    for (int i = 0; i < arr.length; i++) {
+                        arr[i] = Integer.parseInt(tokens[i + 3]);
+                    }
+                    Engine engine = Engine.of(tokens[2]);
+                    return timed(id, meterName(engine), arr.length, () -> engine.findMajority(arr));
+                }
+                case "random" -> {
+                    requireArgs(tokens, 4);
+                    Engine engine = Engine.of(tokens[2]);
+                    int size = Integer.parseInt(tokens[3]);
+                    Random random = tokens.length > 4 ? new Random(Long.parseLong(tokens[4])) : new Random();
+                    int[] arr = CLI.generateArrayWithMajority(size, random);
+                    return timed(id, meterName(engine), size, () -> engine.findMajority(arr));
+                }
+                case "file" -> {
+                    requireArgs(tokens, 3);
+                    Path file = Path.of(tokens[2]);
+                    return timed(id, "mapped", Files.size(file) / Integer.BYTES, () -> MappedFileMajority.findMajority(file));
+                }
+                default -> throw new IllegalArgumentException("unknown operation " + tokens[1]);
+            }
+        } catch (IOException | RuntimeException e) {
+            return errorResponse(id, e);
+        }
+    }
+
+    private static String errorResponse(String id, Throwable e) {
+        return id + " error " + e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    /** A majority computation that may read a file. */
+    private interface Job {
+        OptionalInt run() throws IOException;
+    }
+
+    /** Runs job under the latency registry and formats its ok response. */
+    private String timed(String id, String meter, long n, Job job) throws IOException {
+        LatencyRegistry.Sample sample = latency.start(meter, n);
+        try {
+            OptionalInt result = job.run();
+            long elapsedNanos = sample.stop();
+            String value = result.isPresent() ? Integer.toString(result.getAsInt()) : "none";
+            return id + " ok " + value + " " + elapsedNanos;
+        } finally {
+            sample.discard(); // no-op after stop(); leaves the in-flight gauge on any failure, Errors included
+        }
+    }
+
+    private static String meterName(Engine engine) {
+        return engine.name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Latency, throughput and in-flight counts of the jobs served so far. */
+    public LatencyRegistry latency() {
+        return latency;
+    }
+
+    private static void requireArgs(String[] tokens, int min) {
+        if (tokens.length < min) {
+            throw new IllegalArgumentException("expected at least " + (min - 2) + " argument(s) for " + tokens[1]);
+        }
+    }
+
+    /** Waits for running jobs and stops the executor. */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    /**
+     * Entry point for {@code --server [--socket <path>] [--max-jobs <n>]}; serves stdin/stdout
+     * unless a socket path is given.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path socket = null;
+        int maxJobs = Runtime.getRuntime().availableProcessors() * 2;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--server" -> { }
+                case "--socket" -> socket = Path.of(value(args, ++i, "--socket"));
+                case "--max-jobs" -> maxJobs = Integer.parseInt(value(args, ++i, "--max-jobs"));
+                default -> throw new IllegalArgumentException("Unknown server option: " + args[i]);
+            }
+        }
+        try (BatchServer server = new BatchServer(maxJobs)) {
+            if (socket != null) {
+                System.err.println("Serving majority jobs on " + socket);
+                server.serveSocket(socket);
+            } else {
+                Writer out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+                server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), out);
+            }
+        }
+    }
+
+    private static String value(String[] args, int i, String flag) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + flag);
+        }
+        return args[i];
+    }
+}
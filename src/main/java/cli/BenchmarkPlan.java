@@ -0,0 +1,250 @@
+package cli;
+
+import algorithms.Engine;
+import utils.Metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BenchmarkPlan — what a non-interactive CLI run measures, parsed from command-line flags.
+ *
+ * Flags (lists are comma-separated, sizes accept 1e6 / 10^8 / 1_000_000 notation):
+ *  --sizes 1000,1e6,1e9           array sizes (at most Integer.MAX_VALUE - 8)
+ *  --distributions majority,zipf  see {@link Distribution}
+ *  --engines sequential,parallel  "instrumented" ({@code BoyerMoore.findMajority} with counters)
+ *                                 or any {@link Engine} name
+ *  --reps 5                       measured runs per combination, one CSV row each
+ *  --warmup 3                     unlogged runs before the measured ones
+ *  --threads 8                    parallelism of the pool used by the parallel engine
+ *  --seed 42                      seed for the generated arrays
+ *  --metrics counting             metrics sink of the instrumented engine
+ *  --out results.csv [--append]   output file, overwritten unless --append is given
+ *  --format csv                   csv or binary (fixed-width records, see utils.BinaryResultLogger)
+ *  --async                        log through utils.AsyncResultLogger (background writer)
+ *  --latency latency.json         also write per-engine latency percentiles and throughput
+ *                                 (utils.LatencyRegistry; JSON for *.json, CSV otherwise)
+ */
+public final class BenchmarkPlan {
+    /** Engine name for the counting path; everything else is an {@link Engine}. */
+    public static final String INSTRUMENTED = "instrumented";
+    private static final long MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private final int[] sizes;
+    private final List<Distribution> distributions;
+    private final List<String> engines;
+    private final int reps;
+    private final int warmup;
+    private final int threads;
+    private final long seed;
+    private final String metrics;
+    private final String out;
+    private final boolean append;
+    private final String format;
+    private final boolean async;
+    private final String latency;
+
+    private BenchmarkPlan(int[] sizes, List<Distribution> distributions, List<String> engines, int reps,
+                          int warmup, int threads, long seed, String metrics, String out, boolean append,
+                          String format, boolean async, String latency) {
+        this.sizes = sizes;
+        this.distributions = List.copyOf(distributions);
+        this.engines = List.copyOf(engines);
+        this.reps = reps;
+        this.warmup = warmup;
+        this.threads = threads;
+        this.seed = seed;
+        this.metrics = metrics;
+        this.out = out;
+        this.append = append;
+        this.format = format;
+        this.async = async;
+        this.latency = latency;
+    }
+
+    /**
+     * Parses command-line flags; unspecified flags keep their defaults
+     * (sizes of the interactive menu, majority, sequential, 1 rep, no warm-up,
+     * all processors, seed 42, counting metrics, synchronous CSV to results.csv).
+     *
+     * @throws IllegalArgumentException for unknown flags, missing or invalid values
+     */
+    public static BenchmarkPlan parse(String... args) {
+        int[] sizes = {100, 500, 1000, 5000, 10000};
+        List<Distribution> distributions = List.of(Distribution.MAJORITY);
+        List<String> engines = List.of(Engine.SEQUENTIAL.name().toLowerCase(Locale.ROOT));
+        int reps = 1;
+        int warmup = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42;
+        String metrics = "counting";
+        String out = "results.csv";
+        boolean append = false;
+        String format = "csv";
+        boolean async = false;
+        String latency = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            switch (flag) {
+                case "--append" -> append = true;
+                case "--async" -> async = true;
+                case "--latency" -> latency = value(args, ++i, flag);
+                case "--format" -> {
+                    format = value(args, ++i, flag).toLowerCase(Locale.ROOT);
+                    if (!format.equals("csv") && !format.equals("binary")) {
+                        throw new IllegalArgumentException("Unknown format: " + format);
+                    }
+                }
+                case "--sizes" -> sizes = parseSizes(value(args, ++i, flag));
+                case "--distributions", "--distribution" -> {
+                    List<Distribution> list = new ArrayList<>();
+                    for (String name : value(args, ++i, flag).split(",")) {
+                        list.add(Distribution.of(name));
+                    }
+                    distributions = list;
+                }
+                case "--engines", "--engine" -> {
+                    List<String> list = new ArrayList<>();
+                    for (String name : value(args, ++i, flag).split(",")) {
+                        String engine = name.trim().toLowerCase(Locale.ROOT);
+                        if (!engine.equals(INSTRUMENTED)) {
+                            Engine.of(engine); // validate
+                        }
+                        list.add(engine);
+                    }
+                    engines = list;
+                }
+                case "--reps" -> reps = positive(value(args, ++i, flag), flag, 1);
+                case "--warmup" -> warmup = positive(value(args, ++i, flag), flag, 0);
+                case "--threads" -> threads = positive(value(args, ++i, flag), flag, 1);
+                case "--seed" -> seed = Long.parseLong(value(args, ++i, flag));
+                case "--metrics" -> {
+                    metrics = value(args, ++i, flag);
+                    Metrics.of(metrics); // validate
+                }
+                case "--out" -> out = value(args, ++i, flag);
+                default -> throw new IllegalArgumentException("Unknown option: " + flag);
+            }
+        }
+        return new BenchmarkPlan(sizes, distributions, engines, reps, warmup, threads, seed, metrics, out, append,
+                format, async, latency);
+    }
+
+    /** Parses one size: plain digits (underscores allowed), 1e9 or 10^9. */
+    static int parseSize(String text) {
+        String s = text.trim().replace("_", "");
+        long size;
+        try {
+            if (s.contains("^")) {
+                String[] parts = s.split("\\^");
+                size = Math.round(Math.pow(Long.parseLong(parts[0]), Integer.parseInt(parts[1])));
+            } else if (s.toLowerCase(Locale.ROOT).contains("e")) {
+                size = (long) Double.parseDouble(s);
+            } else {
+                size = Long.parseLong(s);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid size: " + text);
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Size must be in [1, " + MAX_SIZE + "], got " + text);
+        }
+        return (int) size;
+    }
+
+    private static int[] parseSizes(String list) {
+        String[] parts = list.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = parseSize(parts[i]);
+        }
+        return sizes;
+    }
+
+    private static int positive(String text, String flag, int min) {
+        int v;
+        try {
+            v = Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + flag + ": " + text);
+        }
+        if (v < min) {
+            throw new IllegalArgumentException(flag + " must be at least " + min + ", got " + v);
+        }
+        return v;
+    }
+
+    private static String value(String[] args, int i, String flag) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + flag);
+        }
+        return args[i];
+    }
+
+    /** Flag summary printed for --help and after a parse error. */
+    public static String usage() {
+        return """
+                Usage: cli.CLI [--sizes 1000,1e6,1e9] [--distributions majority,no-majority,sorted,alternating,zipf]
+                               [--engines instrumented,sequential,parallel,simd] [--reps N] [--warmup N]
+                               [--threads N] [--seed S] [--metrics counting|striped|none]
+                               [--out results.csv] [--append] [--format csv|binary] [--async]
+                               [--latency latency.csv|latency.json]
+                       cli.CLI --server [--socket <path>] [--max-jobs N]
+                Without arguments the interactive menu starts.""";
+    }
+
+    public int[] sizes() {
+        return sizes.clone();
+    }
+
+    public List<Distribution> distributions() {
+        return distributions;
+    }
+
+    public List<String> engines() {
+        return engines;
+    }
+
+    public int reps() {
+        return reps;
+    }
+
+    public int warmup() {
+        return warmup;
+    }
+
+    public int threads() {
+        return threads;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public String metrics() {
+        return metrics;
+    }
+
+    public String out() {
+        return out;
+    }
+
+    public boolean append() {
+        return append;
+    }
+
+    public String format() {
+        return format;
+    }
+
+    public boolean async() {
+        return async;
+    }
+
+    /** Path for the latency snapshot, or null when none was requested. */
+    public String latency() {
+        return latency;
+    }
+}
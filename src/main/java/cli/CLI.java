@@ -2,13 +2,30 @@ package cli;
 
 
 import algorithms.BoyerMoore;
+import algorithms.Engine;
+import algorithms.HeavyHitters;
+import algorithms.MappedFileMajority;
+import utils.AsyncResultLogger;
+import utils.BinaryResultLogger;
 import utils.CSVLogger;
+import utils.LatencyRegistry;
 import utils.Metrics;
+import utils.ResultLogger;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * CLI interface for benchmarking the Boyer-Moore Majority Vote Algorithm.
@@ -17,33 +34,85 @@ public class CLI {
     private static final String FILE_NAME = "results.csv";
     private static final int[] SIZES = {100, 500, 1000, 5000, 10000};
     private static final String ALGORITHM_NAME = "Boyer_Moore";
+    private static final String MAPPED_ALGORITHM_NAME = "Boyer_Moore_mapped";
+    private static final String HEAVY_HITTERS_NAME = "Misra_Gries_k";
+    /** Values generated and written per chunk when creating binary input files. */
+    private static final int FILE_CHUNK = 1 << 20;
+    /** One generator for the whole run instead of a new Random per benchmark. */
+    private static final Random RANDOM = new Random();
 
-    public static void main(String[] args) throws IOException {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (Arrays.asList(args).contains("--server")) {
+            BatchServer.main(args);
+            return;
+        }
+        if (args.length > 0) {
+            if (args[0].equals("--help")) {
+                System.out.println(BenchmarkPlan.usage());
+                return;
+            }
+            BenchmarkPlan plan;
+            try {
+                plan = BenchmarkPlan.parse(args);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.err.println(BenchmarkPlan.usage());
+                System.exit(2);
+                return;
+            }
+            runPlan(plan);
+            return;
+        }
         Scanner scanner = new Scanner(System.in);
 
         System.out.println("--- Boyer-Moore Benchmark CLI ---");
         System.out.println("1) Run ALL benchmarks for different sizes (fixed majority = 1)");
         System.out.println("2) Run single size benchmark (fixed majority = 1 for correctness)");
         System.out.println("3) Run single size benchmark (random majority)");
-        System.out.println("4) Exit");
+        System.out.println("4) Run majority over a binary int32 little-endian file");
+        System.out.println("5) Generate binary int32 little-endian file (fixed majority = 1)");
+        System.out.println("6) Run heavy hitters (elements > n/k) for a random array");
+        System.out.println("7) Exit");
         System.out.print("Choose option: ");
 
         int choice = scanner.nextInt();
+        Metrics metrics = (choice >= 1 && choice <= 4) || choice == 6 ? chooseMetrics(scanner) : Metrics.noOp();
 
         try (CSVLogger logger = new CSVLogger(FILE_NAME, false)) { // false для перезаписи файла
             switch (choice) {
-                case 1 -> benchmarkAll(logger);
+                case 1 -> benchmarkAll(logger, metrics);
                 case 2 -> {
                     System.out.print("Enter array size (e.g., 100, 500, etc.): ");
                     int size = scanner.nextInt();
-                    benchmarkSingleSizeWithFixedMajority(size, logger);
+                    benchmarkSingleSizeWithFixedMajority(size, logger, metrics);
                 }
                 case 3 -> {
                     System.out.print("Enter array size (e.g., 100, 500, etc.): ");
                     int size = scanner.nextInt();
-                    benchmarkSingleSizeWithRandomMajority(size, logger);
+                    benchmarkSingleSizeWithRandomMajority(size, logger, metrics);
                 }
                 case 4 -> {
+                    System.out.print("Enter file path: ");
+                    Path file = Path.of(scanner.next());
+                    benchmarkMappedFile(file, logger, metrics);
+                }
+                case 5 -> {
+                    System.out.print("Enter file path: ");
+                    Path file = Path.of(scanner.next());
+                    System.out.print("Enter number of values (may exceed 2^31): ");
+                    long count = scanner.nextLong();
+                    writeFileWithMajority(file, count, RANDOM);
+                    System.out.println("Wrote " + count + " values to " + file);
+                    return;
+                }
+                case 6 -> {
+                    System.out.print("Enter array size (e.g., 100, 500, etc.): ");
+                    int size = scanner.nextInt();
+                    System.out.print("Enter k (report elements occurring > n/k times, k >= 2): ");
+                    int k = scanner.nextInt();
+                    benchmarkHeavyHitters(size, k, logger, metrics);
+                }
+                case 7 -> {
                     System.out.println("Exiting...");
                     return;
                 }
@@ -53,12 +122,97 @@ public class CLI {
         System.out.println("Benchmarks finished, results written to " + FILE_NAME);
     }
 
+    /**
+     * Runs a flag-driven plan: every size x distribution x engine combination, warm-up runs
+     * first, then one CSV row per measured run. The algorithm name encodes engine and
+     * distribution (e.g. Boyer_Moore_parallel_zipf); counter columns are only filled by the
+     * instrumented engine.
+     */
+    public static void runPlan(BenchmarkPlan plan) throws IOException {
+        Metrics metrics = Metrics.of(plan.metrics());
+        LatencyRegistry latency = new LatencyRegistry();
+        try (ResultLogger logger = openLogger(plan);
+             ForkJoinPool pool = new ForkJoinPool(plan.threads())) {
+            for (int size : plan.sizes()) {
+                for (Distribution distribution : plan.distributions()) {
+                    int[] arr = distribution.generate(size, plan.seed());
+                    for (String engine : plan.engines()) {
+                        String name = ALGORITHM_NAME + "_" + engine + "_" + distribution.label();
+                        for (int run = 0; run < plan.warmup() + plan.reps(); run++) {
+                            boolean measured = run >= plan.warmup();
+                            metrics.reset();
+                            long startTime = System.nanoTime();
+                            OptionalInt result = runEngine(engine, arr, pool, metrics);
+                            long elapsedNanos = System.nanoTime() - startTime;
+                            if (measured) {
+                                latency.record(engine, size, elapsedNanos);
+                                boolean counted = engine.equals(BenchmarkPlan.INSTRUMENTED);
+                                logger.logResult(name, size, elapsedNanos, counted ? metrics : Metrics.noOp());
+                                String resultStr = result.isPresent() ? Integer.toString(result.getAsInt()) : "No majority";
+                                System.out.printf("%s, Size: %d, Time: %.2f ms, Result: %s%n",
+                                        name, size, elapsedNanos / 1e6, resultStr);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (plan.latency() != null) {
+            try (Writer out = Files.newBufferedWriter(Path.of(plan.latency()))) {
+                if (plan.latency().endsWith(".json")) {
+                    latency.writeJson(out);
+                } else {
+                    latency.writeCsv(out);
+                }
+            }
+            System.out.println("Latency snapshot written to " + plan.latency());
+        }
+        System.out.println("Benchmarks finished, results written to " + plan.out());
+    }
+
+    /** Output logger of a plan: CSV or binary records, optionally behind a background writer. */
+    private static ResultLogger openLogger(BenchmarkPlan plan) throws IOException {
+        ResultLogger logger = plan.format().equals("binary")
+                ? new BinaryResultLogger(Path.of(plan.out()), plan.append())
+                : new CSVLogger(plan.out(), plan.append());
+        return plan.async() ? new AsyncResultLogger(logger, 4096, false, null) : logger;
+    }
+
+    private static OptionalInt runEngine(String engine, int[] arr, ForkJoinPool pool, Metrics metrics) {
+        if (engine.equals(BenchmarkPlan.INSTRUMENTED)) {
+            Optional<Integer> result = BoyerMoore.findMajority(arr, metrics);
+            return result.isPresent() ? OptionalInt.of(result.get()) : OptionalInt.empty();
+        }
+        return Engine.of(engine).findMajority(arr, pool);
+    }
+
+    /**
+     * Asks which Metrics sink to collect counters with.
+     */
+    private static Metrics chooseMetrics(Scanner scanner) {
+        System.out.print("Metrics sink (1 = counting, 2 = striped, 3 = none): ");
+        return switch (scanner.nextInt()) {
+            case 2 -> Metrics.of("striped");
+            case 3 -> Metrics.of("none");
+            default -> Metrics.of("counting");
+        };
+    }
+
     /**
      * Runs benchmarks for all predefined sizes with a fixed majority element (1).
      */
-    public static void benchmarkAll(CSVLogger logger) throws IOException {
+    public static void benchmarkAll(ResultLogger logger) throws IOException {
+        benchmarkAll(logger, Metrics.of("counting"));
+    }
+
+    /**
+     * Runs benchmarks for all predefined sizes with a fixed majority element (1),
+     * collecting counters into the given sink (reset before every size).
+     */
+    public static void benchmarkAll(ResultLogger logger, Metrics metrics) throws IOException {
         for (int size : SIZES) {
-            benchmarkSingleSizeWithFixedMajority(size, logger);
+            metrics.reset();
+            benchmarkSingleSizeWithFixedMajority(size, logger, metrics);
         }
         System.out.println("CSV results written to " + FILE_NAME);
     }
@@ -66,9 +220,15 @@ public class CLI {
     /**
      * Runs a benchmark for a single size with a fixed majority element (1).
      */
-    public static void benchmarkSingleSizeWithFixedMajority(int size, CSVLogger logger) throws IOException {
-        Random random = new Random();
-        Metrics metrics = new Metrics();
+    public static void benchmarkSingleSizeWithFixedMajority(int size, ResultLogger logger) throws IOException {
+        benchmarkSingleSizeWithFixedMajority(size, logger, Metrics.of("counting"));
+    }
+
+    /**
+     * Runs a benchmark for a single size with a fixed majority element (1) using the given Metrics sink.
+     */
+    public static void benchmarkSingleSizeWithFixedMajority(int size, ResultLogger logger, Metrics metrics) throws IOException {
+        Random random = RANDOM;
         int[] arr = generateArrayWithMajority(size, random);
 
         long startTime = System.nanoTime();
@@ -87,9 +247,15 @@ public class CLI {
     /**
      * Runs a benchmark for a single size with a random majority element.
      */
-    public static void benchmarkSingleSizeWithRandomMajority(int size, CSVLogger logger) throws IOException {
-        Random random = new Random();
-        Metrics metrics = new Metrics();
+    public static void benchmarkSingleSizeWithRandomMajority(int size, ResultLogger logger) throws IOException {
+        benchmarkSingleSizeWithRandomMajority(size, logger, Metrics.of("counting"));
+    }
+
+    /**
+     * Runs a benchmark for a single size with a random majority element using the given Metrics sink.
+     */
+    public static void benchmarkSingleSizeWithRandomMajority(int size, ResultLogger logger, Metrics metrics) throws IOException {
+        Random random = RANDOM;
         int[] arr = generateArrayWithRandomMajority(size, random);
 
         long startTime = System.nanoTime();
@@ -105,6 +271,91 @@ public class CLI {
                 size, timeMs, resultStr, metrics.toString());
     }
 
+    /**
+     * Runs majority vote directly over a memory-mapped int32 little-endian file.
+     */
+    public static void benchmarkMappedFile(Path file, ResultLogger logger, Metrics metrics) throws IOException {
+        long n = Files.size(file) / Integer.BYTES;
+
+        long startTime = System.nanoTime();
+        OptionalInt result = MappedFileMajority.findMajority(file, metrics);
+        long endTime = System.nanoTime();
+        long elapsedNanos = endTime - startTime;
+
+        logger.logResult(MAPPED_ALGORITHM_NAME, n, elapsedNanos, metrics);
+
+        double timeMs = elapsedNanos / 1e6;
+        String resultStr = result.isPresent() ? Integer.toString(result.getAsInt()) : "No majority";
+        System.out.printf("File: %s, Size: %d, Time: %.2f ms, Result: %s, Metrics: %s%n",
+                file, n, timeMs, resultStr, metrics.toString());
+    }
+
+    /**
+     * Runs the Misra–Gries heavy-hitters search on an array with k-1 planted heavy values.
+     */
+    public static void benchmarkHeavyHitters(int size, int k, ResultLogger logger, Metrics metrics) throws IOException {
+        Random random = RANDOM;
+        int[] arr = generateArrayWithHeavyHitters(size, k, random);
+
+        long startTime = System.nanoTime();
+        int[] result = HeavyHitters.find(arr, k, metrics);
+        long endTime = System.nanoTime();
+        long elapsedNanos = endTime - startTime;
+
+        logger.logResult(HEAVY_HITTERS_NAME + k, size, elapsedNanos, metrics);
+
+        double timeMs = elapsedNanos / 1e6;
+        System.out.printf("Size: %d, k: %d, Time: %.2f ms, Result: %s, Metrics: %s%n",
+                size, k, timeMs, Arrays.toString(result), metrics.toString());
+    }
+
+    /**
+     * Generates an array where the values 0..k-2 each fill slightly more than n/k positions
+     * and the rest are random values from 100 upward, shuffled.
+     */
+    public static int[] generateArrayWithHeavyHitters(int size, int k, Random random) {
+        int[] arr = new int[size];
+        int share = size / k + 1;
+        int pos = 0;
+        for (int value = 0; value < k - 1 && pos < size; value++) {
+            for (int i = 0; i < share && pos < size; i++) {
+                arr[pos++] = value;
+            }
+        }
+        for (; pos < size; pos++) {
+            arr[pos] = 100 + random.nextInt(1000);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = arr[i];
+            arr[i] = arr[j];
+            arr[j] = temp;
+        }
+        return arr;
+    }
+
+    /**
+     * Writes count int32 little-endian values with a fixed majority element (1).
+     * Values are generated chunk by chunk and every chunk has its own majority of 1s,
+     * so the whole file has one too, without ever holding it in memory.
+     */
+    public static void writeFileWithMajority(Path file, long count, Random random) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_CHUNK * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (long written = 0; written < count; ) {
+                int len = (int) Math.min(FILE_CHUNK, count - written);
+                buffer.clear();
+                buffer.asIntBuffer().put(generateArrayWithMajority(len, random));
+                buffer.limit(len * Integer.BYTES);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                written += len;
+            }
+        }
+    }
+
     /**
      * Generates an array with a fixed majority element (1).
      */
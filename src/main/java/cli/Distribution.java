@@ -0,0 +1,142 @@
+package cli;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Input distributions for scripted benchmark plans.
+ *
+ *  - MAJORITY:    value 1 at exactly n/2 + 1 random positions, the rest random in 0..99
+ *  - NO_MAJORITY: value 1 at exactly n/2 random positions, the rest random in 2..101
+ *  - SORTED:      ascending values with a majority block of 50 in the middle
+ *  - ALTERNATING: 1, 2, 1, 2, ... (the candidate changes on every element; majority only for odd n)
+ *  - ZIPF:        Zipf(s = 1) over 1000 values, no majority in practice
+ *
+ * Positions are chosen by selection sampling instead of place-and-shuffle, so generation is
+ * one sequential O(n) pass even for arrays of 10^9 elements.
+ */
+public enum Distribution {
+    MAJORITY {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            plant(arr, arr.length / 2 + 1, 0, random);
+        }
+    },
+    NO_MAJORITY {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            plant(arr, arr.length / 2, 2, random);
+        }
+    },
+    SORTED {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            int n = arr.length;
+            int majority = n / 2 + 1;
+            int low = (n - majority) / 2;
+            int high = n - majority - low;
+            for (int i = 0; i < low; i++) {
+                arr[i] = (int) ((long) i * 50 / low);
+            }
+            for (int i = low; i < low + majority; i++) {
+                arr[i] = 50;
+            }
+            for (int j = 0; j < high; j++) {
+                arr[low + majority + j] = 51 + (int) ((long) j * 49 / high);
+            }
+        }
+    },
+    ALTERNATING {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = (i & 1) == 0 ? 1 : 2;
+            }
+        }
+    },
+    ZIPF {
+        @Override
+        void fill(int[] arr, SplittableRandom random) {
+            for (int i = 0; i < arr.length; i++) {
+                double u = random.nextDouble();
+                //inverse CDF by binary search over the cumulative weights
+                int lo = 0;
+                int hi = ZIPF_CDF.length - 1;
+                while (lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (ZIPF_CDF[mid] < u) {
+                        lo = mid + 1;
+                    } else {
+                        hi = mid;
+                    }
+                }
+                arr[i] = lo;
+            }
+        }
+    };
+
+    private static final double[] ZIPF_CDF = zipfCdf(1000);
+
+    /** Fills arr according to the distribution. */
+    abstract void fill(int[] arr, SplittableRandom random);
+
+    /**
+     * Generates size values from this distribution; the same seed gives the same array.
+     *
+     * @throws IllegalArgumentException if size is negative
+     */
+    public int[] generate(int size, long seed) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative, got " + size);
+        }
+        int[] arr = new int[size];
+        fill(arr, new SplittableRandom(seed));
+        return arr;
+    }
+
+    /** Name used on the command line and in CSV algorithm names, e.g. "no-majority". */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Parses a distribution label case-insensitively ("majority", "no-majority", "sorted",
+     * "alternating", "zipf"); underscores are accepted in place of dashes.
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static Distribution of(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * Puts value 1 at exactly ones uniformly random positions (Knuth's selection sampling)
+     * and random noise from noiseBase..noiseBase+99 everywhere else.
+     */
+    private static void plant(int[] arr, int ones, int noiseBase, SplittableRandom random) {
+        int n = arr.length;
+        long needed = ones;
+        for (int i = 0; i < n; i++) {
+            if (random.nextLong(n - i) < needed) {
+                arr[i] = 1;
+                needed--;
+            } else {
+                arr[i] = noiseBase + random.nextInt(100);
+            }
+        }
+    }
+
+    private static double[] zipfCdf(int values) {
+        double[] cdf = new double[values];
+        double sum = 0;
+        for (int k = 0; k < values; k++) {
+            sum += 1.0 / (k + 1);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < values; k++) {
+            cdf[k] /= sum;
+        }
+        cdf[values - 1] = 1.0;
+        return cdf;
+    }
+}
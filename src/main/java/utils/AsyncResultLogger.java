@@ -0,0 +1,234 @@
+package utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AsyncResultLogger - moves result logging off the measuring thread.
+ *
+ * Rows are copied into a bounded ring buffer of primitive slots; a background writer thread
+ * drains everything that is queued in one go, hands the rows to the wrapped logger and flushes
+ * it once per batch (group commit).
+ *
+ * When the ring is full, {@link #logResult} either waits for the writer (counted as blocked)
+ * or discards the row (counted as dropped), depending on dropWhenFull. Both counts, plus rows
+ * written and batches committed, are reported to the given Metrics sink under {@link #DROPPED},
+ * {@link #BLOCKED}, {@link #WRITTEN} and {@link #BATCHES}.
+ *
+ * Any failure of the wrapped logger (I/O error, runtime exception or Error) stops the writer
+ * thread; it is rethrown (wrapped in an IOException unless it is one) by the next
+ * {@link #logResult}, {@link #flush()} or {@link #close()} call. VM errors such as
+ * OutOfMemoryError are additionally rethrown on the writer thread once waiters are released.
+ */
+public class AsyncResultLogger implements ResultLogger {
+    public static final String DROPPED = "logger.dropped";
+    public static final String BLOCKED = "logger.blocked";
+    public static final String WRITTEN = "logger.written";
+    public static final String BATCHES = "logger.batches";
+
+    private final ResultLogger delegate;
+    private final Metrics metrics;
+    private final boolean dropWhenFull;
+
+    //ring buffer of rows: slots [head, head + size) modulo capacity
+    private final String[] names;
+    private final long[] values;
+    private final int capacity;
+    private int head;
+    private int size;
+    private long enqueued;
+    private long committed;
+    private boolean closed;
+    private IOException failure;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition changed = lock.newCondition();
+    private final Thread writer;
+
+    /** Values stored per row: n, elapsedNanos, comparisons, arrayAccesses, assignments. */
+    private static final int FIELDS = 5;
+
+    /**
+     * @param delegate     logger that does the actual writing (owned and closed by this logger)
+     * @param capacity     rows the ring buffer holds, at least 1
+     * @param dropWhenFull true = discard rows when the ring is full, false = wait for the writer
+     * @param metrics      sink for the logger's own counters; if null the no-op sink is used
+     * @throws IllegalArgumentException if delegate is null or capacity < 1
+     */
+    public AsyncResultLogger(ResultLogger delegate, int capacity, boolean dropWhenFull, Metrics metrics) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate logger must not be null");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, got " + capacity);
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.dropWhenFull = dropWhenFull;
+        this.metrics = metrics == null ? Metrics.noOp() : metrics;
+        names = new String[capacity];
+        values = new long[capacity * FIELDS];
+        writer = Thread.ofPlatform().daemon().name("result-logger").start(this::drainLoop);
+    }
+
+    @Override
+    public void logResult(String algorithmName, long n, long elapsedNanos,
+                          long comparisons, long arrayAccesses, long assignments) throws IOException {
+        lock.lock();
+        try {
+            checkOpen();
+            if (size == capacity) {
+                if (dropWhenFull) {
+                    metrics.incCounter(DROPPED);
+                    return;
+                }
+                metrics.incCounter(BLOCKED);
+                while (size == capacity) {
+                    changed.awaitUninterruptibly();
+                    checkOpen();
+                }
+            }
+            int slot = (head + size) % capacity;
+            names[slot] = algorithmName;
+            int base = slot * FIELDS;
+            values[base] = n;
+            values[base + 1] = elapsedNanos;
+            values[base + 2] = comparisons;
+            values[base + 3] = arrayAccesses;
+            values[base + 4] = assignments;
+            size++;
+            enqueued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits until every row logged so far has been written and flushed by the writer thread. */
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            long target = enqueued;
+            while (committed < target && failure == null) {
+                changed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Writes the remaining rows, stops the writer thread and closes the wrapped logger. */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            delegate.close();
+        } finally {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        if (closed) {
+            throw new IOException("Logger is closed");
+        }
+    }
+
+    private void drainLoop() {
+        String[] batchNames = new String[capacity];
+        long[] batchValues = new long[capacity * FIELDS];
+        while (true) {
+            int count;
+            lock.lock();
+            try {
+                while (size == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (size == 0) {
+                    return; // closed and drained
+                }
+                //copy out everything queued, then free the slots before writing
+                count = size;
+                for (int i = 0; i < count; i++) {
+                    int slot = (head + i) % capacity;
+                    batchNames[i] = names[slot];
+                    names[slot] = null;
+                    System.arraycopy(values, slot * FIELDS, batchValues, i * FIELDS, FIELDS);
+                }
+                head = (head + count) % capacity;
+                size = 0;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            VirtualMachineError fatal = null;
+            try {
+                for (int i = 0; i < count; i++) {
+                    int base = i * FIELDS;
+                    delegate.logResult(batchNames[i], batchValues[base], batchValues[base + 1],
+                            batchValues[base + 2], batchValues[base + 3], batchValues[base + 4]);
+                }
+                delegate.flush();
+            } catch (IOException e) {
+                error = e;
+            } catch (UncheckedIOException e) {
+                error = e.getCause();
+            } catch (Throwable e) {
+                //any other failure, Errors included, must also stop waiters, or flush() and close() hang
+                error = new IOException(e);
+                if (e instanceof VirtualMachineError vmError) {
+                    fatal = vmError;
+                }
+            }
+
+            lock.lock();
+            try {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    committed += count;
+                    metrics.addCounter(WRITTEN, count);
+                    metrics.incCounter(BATCHES);
+                }
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            //waiters are released; only now let a VM-level error take the thread down
+            if (fatal != null) {
+                throw fatal;
+            }
+            if (error != null) {
+                return;
+            }
+        }
+    }
+}
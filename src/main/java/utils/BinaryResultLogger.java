@@ -0,0 +1,97 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BinaryResultLogger - writes result rows as fixed-width little-endian records.
+ *
+ * File layout: an 8-byte header ({@link #MAGIC}), then one {@link #RECORD_BYTES}-byte record per row:
+ *  - algorithm name, UTF-8, zero-padded to {@link #NAME_BYTES} bytes (longer names are truncated)
+ *  - n, elapsedNanos, comparisons, arrayAccesses, assignments as five int64 values
+ * Records are staged in one reused direct buffer and written when it fills, on flush and on close.
+ * {@link BinaryResultsExporter} turns a file back into the CSV written by {@link CSVLogger}.
+ */
+public class BinaryResultLogger implements ResultLogger {
+    /** "BMRES" followed by format version 1. */
+    public static final long MAGIC = 0x0100_0053_4552_4D42L;
+    public static final int NAME_BYTES = 32;
+    public static final int RECORD_BYTES = NAME_BYTES + 5 * Long.BYTES;
+    private static final int RECORDS_PER_BUFFER = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORDS_PER_BUFFER * RECORD_BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * @param file   output file
+     * @param append true = add records to an existing file, false = overwrite
+     * @throws IOException if the file cannot be opened, or append targets a file in another format
+     */
+    public BinaryResultLogger(Path file, boolean append) throws IOException {
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        if (append) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } else {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+        if (append && exists) {
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                in.read(header, 0);
+            }
+            if (header.getLong(0) != MAGIC) {
+                channel.close();
+                throw new IOException("Not a binary results file: " + file);
+            }
+        } else {
+            buffer.putLong(MAGIC);
+        }
+    }
+
+    @Override
+    public void logResult(String algorithmName, long n, long elapsedNanos,
+                          long comparisons, long arrayAccesses, long assignments) throws IOException {
+        if (buffer.remaining() < RECORD_BYTES) {
+            drain();
+        }
+        byte[] name = algorithmName.getBytes(StandardCharsets.UTF_8);
+        int len = Math.min(name.length, NAME_BYTES);
+        int start = buffer.position();
+        buffer.put(name, 0, len);
+        for (int i = len; i < NAME_BYTES; i++) {
+            buffer.put((byte) 0);
+        }
+        buffer.position(start + NAME_BYTES);
+        buffer.putLong(n).putLong(elapsedNanos).putLong(comparisons).putLong(arrayAccesses).putLong(assignments);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+}
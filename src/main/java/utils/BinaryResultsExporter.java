@@ -0,0 +1,78 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * BinaryResultsExporter - converts a {@link BinaryResultLogger} file into the CSV format of {@link CSVLogger}.
+ *
+ * Usage: {@code java utils.BinaryResultsExporter results.bin results.csv}
+ */
+public final class BinaryResultsExporter {
+
+    private BinaryResultsExporter() {
+    }
+
+    /**
+     * Writes every record of binary as one CSV row to csv (overwriting it).
+     *
+     * @return number of records exported
+     * @throws IOException if binary is not a results file, is truncated, or a file cannot be accessed
+     */
+    public static long export(Path binary, Path csv) throws IOException {
+        long records = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * BinaryResultLogger.RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] name = new byte[BinaryResultLogger.NAME_BYTES];
+        try (FileChannel in = FileChannel.open(binary, StandardOpenOption.READ);
+             CSVLogger out = new CSVLogger(csv.toString(), false)) {
+            buffer.limit(Long.BYTES);
+            readFully(in, buffer);
+            if (buffer.position() < Long.BYTES || buffer.getLong(0) != BinaryResultLogger.MAGIC) {
+                throw new IOException("Not a binary results file: " + binary);
+            }
+            buffer.clear();
+            while (true) {
+                int read = in.read(buffer);
+                buffer.flip();
+                while (buffer.remaining() >= BinaryResultLogger.RECORD_BYTES) {
+                    buffer.get(name);
+                    int len = 0;
+                    while (len < name.length && name[len] != 0) {
+                        len++;
+                    }
+                    out.logResult(new String(name, 0, len, StandardCharsets.UTF_8), buffer.getLong(), buffer.getLong(),
+                            buffer.getLong(), buffer.getLong(), buffer.getLong());
+                    records++;
+                }
+                buffer.compact(); // keep a partial record for the next read
+                if (read < 0) {
+                    if (buffer.position() > 0) {
+                        throw new IOException("Truncated record at the end of " + binary);
+                    }
+                    break;
+                }
+            }
+        }
+        return records;
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && in.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file ends
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java utils.BinaryResultsExporter <results.bin> <results.csv>");
+            System.exit(2);
+        }
+        long records = export(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Exported " + records + " records to " + args[1]);
+    }
+}
@@ -1,15 +1,24 @@
 package utils;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 
 /**
  * CSVLogger - utility for writing algorithm metrics into a CSV file.
  * Automatically writes a header if the file is new or overwritten.
+ *
+ * Rows are formatted into one reused StringBuilder and written through a buffer; they reach the
+ * file when the buffer fills, on {@link #flush()} and on {@link #close()}.
  */
-public class CSVLogger implements AutoCloseable {
-    private final FileWriter writer;
+public class CSVLogger implements ResultLogger {
+    /** Column header shared by every CSV producer in the project. */
+    public static final String HEADER = "Algorithm_Name,n,timeMs,comparisons,arrayAccesses,assignments";
+
+    private final Writer writer;
+    private final StringBuilder row = new StringBuilder(128);
 
 
     /**
@@ -21,10 +30,10 @@ public class CSVLogger implements AutoCloseable {
     public CSVLogger(String fileName, boolean append) throws IOException {
         File file = new File(fileName);
         boolean exists = file.exists();
-        writer = new FileWriter(file, append);
+        writer = new BufferedWriter(new FileWriter(file, append), 1 << 16);
         // Write header only once for a new file
         if (!exists || !append) {
-            writer.write("Algorithm_Name,n,timeMs,comparisons,arrayAccesses,assignments\n");
+            writer.write(HEADER + "\n");
         }
     }
 
@@ -34,19 +43,28 @@ public class CSVLogger implements AutoCloseable {
      * @param algorithmName algorithm identifier
      * @param n             input size
      * @param elapsedNanos  execution time in nanoseconds
-     * @param m             collected metrics
+     * @param comparisons   comparisons counted during the run
+     * @param arrayAccesses array accesses counted during the run
+     * @param assignments   assignments counted during the run
      */
-    public void logResult(String algorithmName,  int n, long elapsedNanos, Metrics m) throws IOException {
+    @Override
+    public void logResult(String algorithmName, long n, long elapsedNanos,
+                          long comparisons, long arrayAccesses, long assignments) throws IOException {
         double timeMs = elapsedNanos / 1e6;
-        writer.write(algorithmName + "," +
-                n + "," +
-                timeMs + "," +
-                m.getComparisons() + "," +
-                m.getArrayAccesses() + "," +
-                m.getAssignments() + "," + "\n");
-        writer.flush();
+        row.setLength(0);
+        row.append(algorithmName).append(',')
+                .append(n).append(',')
+                .append(timeMs).append(',')
+                .append(comparisons).append(',')
+                .append(arrayAccesses).append(',')
+                .append(assignments).append(',').append('\n');
+        writer.append(row);
     }
 
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
 
     /** Close the file writer (use with try-with-resources). */
     @Override
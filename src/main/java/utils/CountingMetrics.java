@@ -0,0 +1,63 @@
+package utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CountingMetrics - Metrics backed by plain long fields.
+ * Not thread-safe: use one instance per thread, or {@link StripedMetrics} when
+ * several threads report into the same collector.
+ */
+public class CountingMetrics implements Metrics {
+    private long comparisons;
+    private long arrayAccesses;
+    private long assignments;
+    private final Map<String, long[]> counters = new LinkedHashMap<>();
+
+    // Comparisons
+    @Override public void incComparisons() { comparisons++; }
+    @Override public void addComparisons(long delta) { comparisons += delta; }
+    @Override public long getComparisons() { return comparisons; }
+
+    // Array accesses
+    @Override public void incArrayAccesses() { arrayAccesses++; }
+    @Override public void addArrayAccesses(long delta) { arrayAccesses += delta; }
+    @Override public long getArrayAccesses() { return arrayAccesses; }
+
+    // Assignments
+    @Override public void incAssignments() { assignments++; }
+    @Override public void addAssignments(long delta) { assignments += delta; }
+    @Override public long getAssignments() { return assignments; }
+
+    // Named event counters
+    @Override
+    public void addCounter(String name, long delta) {
+        counters.computeIfAbsent(name, k -> new long[1])[0] += delta;
+    }
+
+    @Override
+    public long getCounter(String name) {
+        long[] c = counters.get(name);
+        return c == null ? 0 : c[0];
+    }
+
+    @Override
+    public Map<String, Long> counters() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, c) -> snapshot.put(name, c[0]));
+        return snapshot;
+    }
+
+    @Override
+    public void reset() {
+        comparisons = 0;
+        arrayAccesses = 0;
+        assignments = 0;
+        counters.clear();
+    }
+
+    @Override
+    public String toString() {
+        return Metrics.format(this);
+    }
+}
@@ -0,0 +1,109 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram - lock-free log-linear histogram of non-negative long values (nanoseconds),
+ * in the style of HdrHistogram.
+ *
+ * Values below 128 are counted exactly; above that every power-of-two range is split into
+ * 64 equal sub-buckets, so a reported percentile is at most 1/64 (about 1.6%) above the true
+ * value. The whole long range is covered with 3712 buckets, no configuration needed.
+ *
+ * Recording is one atomic add on a bucket plus count/sum/min/max updates - no locks, safe from
+ * any number of threads. Reads scan the buckets and may see a recording that is in progress.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR = 128;
+    private static final int HALF = LINEAR / 2;
+    private static final int BUCKETS = HALF * (64 - 6);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /** Percentiles and totals at one point in time; values in the recorded unit. */
+    public record Snapshot(long count, long min, long max, double mean, long p50, long p90, long p99, long p999) {
+    }
+
+    /**
+     * Records one value.
+     *
+     * @throws IllegalArgumentException if value is negative
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative, got " + value);
+        }
+        counts.getAndIncrement(index(value));
+        count.getAndIncrement();
+        sum.getAndAdd(value);
+        min.getAndAccumulate(value, Math::min);
+        max.getAndAccumulate(value, Math::max);
+    }
+
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return HALF * shift + (int) (value >>> shift);
+    }
+
+    /** Largest value that falls into the bucket at index. */
+    static long highestEquivalent(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long top = index % HALF + HALF;
+        return ((top + 1) << shift) - 1;
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Value at the given percentile (0..100]: the smallest bucket bound with at least that share
+     * of the recorded values at or below it. Returns 0 when nothing was recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public Snapshot snapshot() {
+        long total = count.get();
+        if (total == 0) {
+            return new Snapshot(0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new Snapshot(total, min.get(), max.get(), (double) sum.get() / total,
+                valueAtPercentile(50), valueAtPercentile(90), valueAtPercentile(99), valueAtPercentile(99.9));
+    }
+
+    /** Clears all buckets; not atomic with respect to concurrent recordings. */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,173 @@
+package utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyRegistry - per-engine, per-size-bucket call latency, throughput and calls in flight.
+ *
+ * Each (engine, size bucket) pair gets a {@link LatencyHistogram} of call durations in
+ * nanoseconds, LongAdders for calls and elements processed, and a gauge of calls currently
+ * running. Size buckets are decades: n in [10^k, 10^(k+1)) is bucket "1e{k}".
+ *
+ * Usage:
+ * <pre>
+ *     LatencyRegistry.Sample sample = registry.start("parallel", arr.length);
+ *     ... run the call ...
+ *     sample.stop();
+ * </pre>
+ * Recording is lock-free; snapshots can be taken at any time and exported as CSV or JSON.
+ * Throughput is elements per second of wall-clock time since the registry was created or reset.
+ */
+public class LatencyRegistry {
+    /** CSV header of {@link #writeCsv(Appendable)}. */
+    public static final String CSV_HEADER =
+            "engine,sizeBucket,calls,inFlight,elementsPerSecond,meanNs,minNs,p50Ns,p90Ns,p99Ns,p999Ns,maxNs";
+
+    private final ConcurrentMap<String, Meter> meters = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    /** Everything tracked for one (engine, size bucket) pair. */
+    private static final class Meter {
+        final String engine;
+        final int decade;
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder elements = new LongAdder();
+        final AtomicLong inFlight = new AtomicLong();
+
+        Meter(String engine, int decade) {
+            this.engine = engine;
+            this.decade = decade;
+        }
+    }
+
+    /** One measurement snapshot row. */
+    public record Row(String engine, String sizeBucket, long calls, long inFlight, double elementsPerSecond,
+                      LatencyHistogram.Snapshot latency) {
+    }
+
+    /** A running call; {@link #stop()} records its duration exactly once. Not thread-safe. */
+    public final class Sample {
+        private final Meter meter;
+        private final long n;
+        private final long startTime;
+        private boolean stopped;
+
+        private Sample(Meter meter, long n) {
+            this.meter = meter;
+            this.n = n;
+            meter.inFlight.getAndIncrement();
+            this.startTime = System.nanoTime();
+        }
+
+        /** Records the call and returns its duration in nanoseconds. */
+        public long stop() {
+            long elapsed = System.nanoTime() - startTime;
+            if (!stopped) {
+                stopped = true;
+                meter.inFlight.getAndDecrement();
+                meter.latency.record(elapsed);
+                meter.elements.add(n);
+            }
+            return elapsed;
+        }
+
+        /** Ends a call that failed: leaves the in-flight gauge without recording a latency. */
+        public void discard() {
+            if (!stopped) {
+                stopped = true;
+                meter.inFlight.getAndDecrement();
+            }
+        }
+    }
+
+    /** Decade of n: 0 for n < 10, 3 for 1000..9999, and so on. */
+    static int decade(long n) {
+        int k = 0;
+        for (long v = n; v >= 10; v /= 10) {
+            k++;
+        }
+        return k;
+    }
+
+    private Meter meter(String engine, long n) {
+        int decade = decade(n);
+        return meters.computeIfAbsent(engine + '|' + decade, key -> new Meter(engine, decade));
+    }
+
+    /** Starts timing a call of engine over n elements; counts as in flight until stopped. */
+    public Sample start(String engine, long n) {
+        return new Sample(meter(engine, n), n);
+    }
+
+    /** Records a call that was timed elsewhere. */
+    public void record(String engine, long n, long elapsedNanos) {
+        Meter meter = meter(engine, n);
+        meter.latency.record(elapsedNanos);
+        meter.elements.add(n);
+    }
+
+    /** Rows for every (engine, size bucket) seen so far, sorted by engine then size. */
+    public List<Row> snapshot() {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        List<Meter> sorted = new ArrayList<>(meters.values());
+        sorted.sort(Comparator.comparing((Meter m) -> m.engine).thenComparingInt(m -> m.decade));
+        List<Row> rows = new ArrayList<>(sorted.size());
+        for (Meter m : sorted) {
+            LatencyHistogram.Snapshot latency = m.latency.snapshot();
+            rows.add(new Row(m.engine, "1e" + m.decade, latency.count(), m.inFlight.get(),
+                    m.elements.sum() / seconds, latency));
+        }
+        return rows;
+    }
+
+    /** Clears all meters and restarts the throughput clock. Calls in flight keep their gauges. */
+    public void reset() {
+        for (Meter m : meters.values()) {
+            m.latency.reset();
+            m.elements.reset();
+        }
+        startNanos = System.nanoTime();
+    }
+
+    /** Writes the snapshot as CSV with {@link #CSV_HEADER}. */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append(CSV_HEADER).append('\n');
+        for (Row r : snapshot()) {
+            LatencyHistogram.Snapshot l = r.latency();
+            out.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.1f,%d,%d,%d,%d,%d,%d%n",
+                    r.engine(), r.sizeBucket(), r.calls(), r.inFlight(), r.elementsPerSecond(),
+                    l.mean(), l.min(), l.p50(), l.p90(), l.p99(), l.p999(), l.max()));
+        }
+    }
+
+    /** Writes the snapshot as one JSON array of objects (single line). */
+    public void writeJson(Appendable out) throws IOException {
+        out.append('[');
+        boolean first = true;
+        for (Row r : snapshot()) {
+            LatencyHistogram.Snapshot l = r.latency();
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            out.append(String.format(Locale.ROOT,
+                    "{\"engine\":\"%s\",\"sizeBucket\":\"%s\",\"calls\":%d,\"inFlight\":%d,\"elementsPerSecond\":%.1f,"
+                            + "\"meanNs\":%.1f,\"minNs\":%d,\"p50Ns\":%d,\"p90Ns\":%d,\"p99Ns\":%d,\"p999Ns\":%d,\"maxNs\":%d}",
+                    escape(r.engine()), r.sizeBucket(), r.calls(), r.inFlight(), r.elementsPerSecond(),
+                    l.mean(), l.min(), l.p50(), l.p90(), l.p99(), l.p999(), l.max()));
+        }
+        out.append(']');
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,55 @@
+package utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MajorityCallEvent - Java Flight Recorder event covering one uninstrumented majority call.
+ *
+ * Usage on the hot path: create, {@link #begin()}, run the call, then {@link #end(String, long, int, long, boolean)}.
+ * When the event is not enabled in the running recording, begin/end are no-ops and the JIT
+ * removes the allocation, so the fast paths carry no measurable cost outside of profiling.
+ *
+ * Enable with e.g. {@code -XX:StartFlightRecording:settings=profile,filename=run.jfr} or
+ * {@code jfr configure +algorithms.MajorityCall#enabled=true}.
+ */
+@Name("algorithms.MajorityCall")
+@Label("Majority Call")
+@Category({"Boyer-Moore"})
+@Description("One findMajorityPacked call of the sequential, parallel or SIMD engine")
+@StackTrace(false)
+public class MajorityCallEvent extends Event {
+    @Label("Engine")
+    String engine;
+
+    @Label("Input Size")
+    long n;
+
+    @Label("Chunks")
+    @Description("Fork/join leaves (parallel), vector lanes (simd) or 1 (sequential)")
+    int chunks;
+
+    @Label("Early Exit Index")
+    @Description("Index where verification stopped once the majority was confirmed, -1 if it read everything")
+    long earlyExitIndex;
+
+    @Label("Majority Found")
+    boolean found;
+
+    /** Ends the event and commits it with the given fields if the recording wants it. */
+    public void end(String engine, long n, int chunks, long earlyExitIndex, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.n = n;
+            this.chunks = chunks;
+            this.earlyExitIndex = earlyExitIndex;
+            this.found = found;
+            commit();
+        }
+    }
+}
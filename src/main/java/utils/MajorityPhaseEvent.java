@@ -0,0 +1,51 @@
+package utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MajorityPhaseEvent - Java Flight Recorder event for one phase (candidate or verify) of a
+ * majority call; nested inside the call's {@link MajorityCallEvent}. Same zero-cost pattern.
+ */
+@Name("algorithms.MajorityPhase")
+@Label("Majority Phase")
+@Category({"Boyer-Moore"})
+@Description("Candidate selection or verification pass of a majority call")
+@StackTrace(false)
+public class MajorityPhaseEvent extends Event {
+    public static final String CANDIDATE = "candidate";
+    public static final String VERIFY = "verify";
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Input Size")
+    long n;
+
+    @Label("Chunks")
+    int chunks;
+
+    @Label("Early Exit Index")
+    @Description("Verify phase: index where it stopped once the majority was confirmed, otherwise -1")
+    long earlyExitIndex;
+
+    /** Ends the event and commits it with the given fields if the recording wants it. */
+    public void end(String engine, String phase, long n, int chunks, long earlyExitIndex) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.phase = phase;
+            this.n = n;
+            this.chunks = chunks;
+            this.earlyExitIndex = earlyExitIndex;
+            commit();
+        }
+    }
+}
@@ -1,45 +1,83 @@
 package utils;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
 
 /**
  * Metrics - collects counters for algorithm analysis.
- * Tracks comparisons, array accesses, assignments, and memory allocations.
+ * Tracks comparisons, array accesses and assignments.
  * comparisons: number of logical comparisons (==, <, >, etc.)
  * arrayAccesses: number of array element reads/writes
  * assignments: number of variable assignments (updates of counters, candidate variables, etc.)
- * Thread-safe: all counters use AtomicLong to allow safe increments
+ *
+ * Implementations:
+ *  - {@link NoOpMetrics}: discards everything; calls inline to nothing in the JIT
+ *  - {@link CountingMetrics}: plain long fields, for a collector owned by one thread
+ *  - {@link StripedMetrics}: thread-local batches flushed into LongAdders, safe to share
+ *
+ * Besides the three operation counters, a sink can keep named event counters (e.g. which
+ * verification path a call took). They are meant for per-call events, not per-element work;
+ * the no-op sink ignores them.
  */
-public class Metrics {
-    private final AtomicLong comparisons = new AtomicLong(0);
-    private final AtomicLong arrayAccesses = new AtomicLong(0);
-    private final AtomicLong assignments = new AtomicLong(0);
+public interface Metrics {
 
     // Comparisons
-    public void incComparisons() { comparisons.incrementAndGet(); }
-    public void addComparisons(long delta) { comparisons.addAndGet(delta); }
-    public long getComparisons() { return comparisons.get(); }
+    void incComparisons();
+    void addComparisons(long delta);
+    long getComparisons();
 
     // Array accesses
-    public void incArrayAccesses() { arrayAccesses.incrementAndGet(); }
-    public void addArrayAccesses(long delta) { arrayAccesses.addAndGet(delta); }
-    public long getArrayAccesses() { return arrayAccesses.get(); }
+    void incArrayAccesses();
+    void addArrayAccesses(long delta);
+    long getArrayAccesses();
 
     // Assignments
-    public void incAssignments() { assignments.incrementAndGet(); }
-    public void addAssignments(long delta) { assignments.addAndGet(delta); }
-    public long getAssignments() { return assignments.get(); }
+    void incAssignments();
+    void addAssignments(long delta);
+    long getAssignments();
 
+    void reset();
 
-    public void reset(){
-        comparisons.set(0);
-        arrayAccesses.set(0);
-        assignments.set(0);
+    // Named event counters
+    default void incCounter(String name) { addCounter(name, 1); }
+    default void addCounter(String name, long delta) { }
+    default long getCounter(String name) { return 0; }
+
+    /** Snapshot of all named counters (empty if the sink does not keep them). */
+    default Map<String, Long> counters() {
+        return Map.of();
+    }
+
+    /**
+     * Publishes any counts buffered by the calling thread.
+     * Algorithms call this once at the end of a run; the default does nothing.
+     */
+    default void flush() {
+    }
+
+    /** Shared no-op sink. */
+    static Metrics noOp() {
+        return NoOpMetrics.INSTANCE;
+    }
+
+    /**
+     * Creates a sink by name: "none", "counting" or "striped".
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    static Metrics of(String name) {
+        return switch (name.toLowerCase()) {
+            case "none", "noop" -> noOp();
+            case "counting" -> new CountingMetrics();
+            case "striped" -> new StripedMetrics();
+            default -> throw new IllegalArgumentException("Unknown metrics sink: " + name);
+        };
     }
 
-    @Override
-    public String toString() {
-        return String.format("comparisons=%d,arrayAccesses=%d,assignments=%d",
-                getComparisons(), getArrayAccesses(), getAssignments());
+    /** Formats the counters the way every implementation prints them; named counters follow the three op counters. */
+    static String format(Metrics m) {
+        StringBuilder sb = new StringBuilder(String.format("comparisons=%d,arrayAccesses=%d,assignments=%d",
+                m.getComparisons(), m.getArrayAccesses(), m.getAssignments()));
+        m.counters().forEach((name, value) -> sb.append(',').append(name).append('=').append(value));
+        return sb.toString();
     }
 }
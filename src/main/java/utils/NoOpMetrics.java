@@ -0,0 +1,32 @@
+package utils;
+
+/**
+ * NoOpMetrics - Metrics sink that ignores every call.
+ * All methods are empty, so once inlined the JIT removes the instrumentation entirely.
+ * Getters always return 0.
+ */
+public final class NoOpMetrics implements Metrics {
+    static final NoOpMetrics INSTANCE = new NoOpMetrics();
+
+    private NoOpMetrics() {
+    }
+
+    @Override public void incComparisons() { }
+    @Override public void addComparisons(long delta) { }
+    @Override public long getComparisons() { return 0; }
+
+    @Override public void incArrayAccesses() { }
+    @Override public void addArrayAccesses(long delta) { }
+    @Override public long getArrayAccesses() { return 0; }
+
+    @Override public void incAssignments() { }
+    @Override public void addAssignments(long delta) { }
+    @Override public long getAssignments() { return 0; }
+
+    @Override public void reset() { }
+
+    @Override
+    public String toString() {
+        return Metrics.format(this);
+    }
+}
@@ -0,0 +1,37 @@
+package utils;
+
+import java.io.IOException;
+
+/**
+ * ResultLogger - sink for benchmark result rows (algorithm, n, time and the three op counters).
+ *
+ * Implementations: {@link CSVLogger} (text), {@link BinaryResultLogger} (fixed-width records)
+ * and {@link AsyncResultLogger} (queues rows for either of them on a background thread).
+ */
+public interface ResultLogger extends AutoCloseable {
+
+    /**
+     * Logs one experiment result.
+     *
+     * @param algorithmName algorithm identifier
+     * @param n             input size
+     * @param elapsedNanos  execution time in nanoseconds
+     * @param comparisons   comparisons counted during the run
+     * @param arrayAccesses array accesses counted during the run
+     * @param assignments   assignments counted during the run
+     */
+    void logResult(String algorithmName, long n, long elapsedNanos,
+                   long comparisons, long arrayAccesses, long assignments) throws IOException;
+
+    /** Logs one experiment result with the op counters read from m. */
+    default void logResult(String algorithmName, long n, long elapsedNanos, Metrics m) throws IOException {
+        logResult(algorithmName, n, elapsedNanos, m.getComparisons(), m.getArrayAccesses(), m.getAssignments());
+    }
+
+    /** Pushes buffered rows to the underlying file. */
+    void flush() throws IOException;
+
+    /** Flushes and releases the file (use with try-with-resources). */
+    @Override
+    void close() throws IOException;
+}
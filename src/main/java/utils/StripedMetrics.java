@@ -0,0 +1,122 @@
+package utils;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StripedMetrics - thread-safe Metrics for collectors shared between threads.
+ *
+ * Each thread increments plain fields in its own buffer and only pushes them into
+ * the shared LongAdders every {@link #BATCH} increments (or on {@link #flush()}),
+ * so the hot path never performs a CAS.
+ *
+ * Getters return the published totals plus the calling thread's pending buffer;
+ * other threads' pending counts become visible after they call {@link #flush()}.
+ * {@link #reset()} clears the totals and invalidates buffers of all threads.
+ * Named counters are per-call events and go straight into a LongAdder per name.
+ */
+public class StripedMetrics implements Metrics {
+    /** Increments buffered per thread before they are published. */
+    static final int BATCH = 1024;
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder assignments = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+    private volatile int epoch;
+
+    /** Per-thread pending counters, tagged with the epoch they were collected in. */
+    private static final class Buffer {
+        long comparisons;
+        long arrayAccesses;
+        long assignments;
+        int pending;
+        int epoch;
+    }
+
+    private Buffer buffer() {
+        Buffer b = buffers.get();
+        int current = epoch;
+        if (b.epoch != current) {
+            // counts collected before the last reset are dropped
+            b.comparisons = 0;
+            b.arrayAccesses = 0;
+            b.assignments = 0;
+            b.pending = 0;
+            b.epoch = current;
+        }
+        return b;
+    }
+
+    private void tick(Buffer b) {
+        if (++b.pending >= BATCH) {
+            publish(b);
+        }
+    }
+
+    private void publish(Buffer b) {
+        if (b.comparisons != 0) comparisons.add(b.comparisons);
+        if (b.arrayAccesses != 0) arrayAccesses.add(b.arrayAccesses);
+        if (b.assignments != 0) assignments.add(b.assignments);
+        b.comparisons = 0;
+        b.arrayAccesses = 0;
+        b.assignments = 0;
+        b.pending = 0;
+    }
+
+    // Comparisons
+    @Override public void incComparisons() { Buffer b = buffer(); b.comparisons++; tick(b); }
+    @Override public void addComparisons(long delta) { Buffer b = buffer(); b.comparisons += delta; tick(b); }
+    @Override public long getComparisons() { return comparisons.sum() + buffer().comparisons; }
+
+    // Array accesses
+    @Override public void incArrayAccesses() { Buffer b = buffer(); b.arrayAccesses++; tick(b); }
+    @Override public void addArrayAccesses(long delta) { Buffer b = buffer(); b.arrayAccesses += delta; tick(b); }
+    @Override public long getArrayAccesses() { return arrayAccesses.sum() + buffer().arrayAccesses; }
+
+    // Assignments
+    @Override public void incAssignments() { Buffer b = buffer(); b.assignments++; tick(b); }
+    @Override public void addAssignments(long delta) { Buffer b = buffer(); b.assignments += delta; tick(b); }
+    @Override public long getAssignments() { return assignments.sum() + buffer().assignments; }
+
+    // Named event counters
+    @Override
+    public void addCounter(String name, long delta) {
+        counters.computeIfAbsent(name, k -> new LongAdder()).add(delta);
+    }
+
+    @Override
+    public long getCounter(String name) {
+        LongAdder c = counters.get(name);
+        return c == null ? 0 : c.sum();
+    }
+
+    @Override
+    public Map<String, Long> counters() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((name, c) -> snapshot.put(name, c.sum()));
+        return snapshot;
+    }
+
+    @Override
+    public void flush() {
+        publish(buffer());
+    }
+
+    @Override
+    public void reset() {
+        epoch++;
+        comparisons.reset();
+        arrayAccesses.reset();
+        assignments.reset();
+        counters.clear();
+    }
+
+    @Override
+    public String toString() {
+        return Metrics.format(this);
+    }
+}
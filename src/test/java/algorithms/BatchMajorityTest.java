@@ -0,0 +1,117 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batched multi-array API.
+ */
+class BatchMajorityTest {
+
+    private static int[][] randomBatch(int count, Random random) {
+        int[][] arrays = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int size = random.nextInt(200);
+            arrays[i] = i % 3 == 0 && size > 0
+                    ? generateArrayWithMajority(size, random)
+                    : random.ints(size, 0, 3).toArray();
+        }
+        return arrays;
+    }
+
+    @Test
+    void testMatchesPerArrayFastPath() {
+        int[][] arrays = randomBatch(1000, new Random(6));
+        BatchMajority.BatchResult result = BatchMajority.findMajorityBatch(arrays);
+        for (int i = 0; i < arrays.length; i++) {
+            OptionalInt expected = BoyerMoore.findMajorityFast(arrays[i]);
+            assertEquals(expected.isPresent(), result.isFound(i), "array " + i);
+            if (expected.isPresent()) {
+                assertEquals(expected.getAsInt(), result.value(i));
+            }
+        }
+    }
+
+    @Test
+    void testSequentialAndPooledAgreeAndOverwriteOutputs() {
+        int[][] arrays = randomBatch(777, new Random(13));
+        int words = BatchMajority.foundWords(arrays.length);
+        int[] seqValues = new int[arrays.length];
+        long[] seqFound = new long[words];
+        BatchMajority.findMajorityBatch(arrays, seqValues, seqFound, null);
+
+        int[] values = new int[arrays.length];
+        long[] found = new long[words];
+        Arrays.fill(found, -1L); // stale bits must be cleared
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchMajority.findMajorityBatch(arrays, values, found, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(seqValues, values);
+        assertArrayEquals(seqFound, found);
+    }
+
+    @Test
+    void testNullPoolRunsOnCallingThread() throws InterruptedException {
+        int[][] arrays = randomBatch(100_000, new Random(17));
+        int[] values = new int[arrays.length];
+        long[] found = new long[BatchMajority.foundWords(arrays.length)];
+
+        // forked subtasks of a non-worker thread would show up in the common pool while the batch runs
+        ForkJoinPool common = ForkJoinPool.commonPool();
+        assertTrue(common.awaitQuiescence(10, TimeUnit.SECONDS), "common pool still busy from earlier work");
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicLong busy = new AtomicLong();
+        Thread watcher = Thread.ofPlatform().start(() -> {
+            while (!done.get()) {
+                if (common.hasQueuedSubmissions() || common.getActiveThreadCount() > 0) {
+                    busy.incrementAndGet();
+                }
+                Thread.onSpinWait();
+            }
+        });
+        long steals = common.getStealCount();
+        try {
+            BatchMajority.findMajorityBatch(arrays, values, found, null);
+        } finally {
+            done.set(true);
+            watcher.join();
+        }
+        assertEquals(0, busy.get(), "null pool must not use the common pool");
+        assertEquals(steals, common.getStealCount());
+
+        for (int i = 0; i < arrays.length; i++) {
+            OptionalInt expected = BoyerMoore.findMajorityFast(arrays[i]);
+            assertEquals(expected.isPresent(), BatchMajority.isFound(found, i), "array " + i);
+            assertEquals(expected.orElse(0), values[i], "array " + i);
+        }
+    }
+
+    @Test
+    void testEdgeCases() {
+        BatchMajority.BatchResult empty = BatchMajority.findMajorityBatch(new int[0][]);
+        assertEquals(0, empty.values().length);
+
+        BatchMajority.BatchResult r = BatchMajority.findMajorityBatch(new int[][]{{}, {5}, {1, 2}});
+        assertFalse(r.isFound(0));
+        assertTrue(r.isFound(1));
+        assertEquals(5, r.value(1));
+        assertFalse(r.isFound(2));
+
+        assertThrows(IllegalArgumentException.class, () -> BatchMajority.findMajorityBatch(new int[][]{{1}, null}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchMajority.findMajorityBatch(new int[2][1], new int[1], new long[1], null));
+    }
+}
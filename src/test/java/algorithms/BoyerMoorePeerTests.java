@@ -3,6 +3,7 @@ package algorithms;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
 import utils.Metrics;
 
 import java.util.Optional;
@@ -18,7 +19,7 @@ public class BoyerMoorePeerTests {
 
     @BeforeEach
     void setUp() {
-        metrics = new Metrics();
+        metrics = new CountingMetrics();
         boyerMoore = new BoyerMoore(metrics);
     }
 
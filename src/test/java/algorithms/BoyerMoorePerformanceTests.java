@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import utils.CountingMetrics;
 import utils.Metrics;
 
 import java.util.Arrays;
@@ -21,7 +22,7 @@ public class BoyerMoorePerformanceTests {
 
     @BeforeEach
     void setUp() {
-        metrics = new Metrics();
+        metrics = new CountingMetrics();
         boyerMoore = new BoyerMoore(metrics);
     }
 
@@ -4,11 +4,14 @@ package algorithms;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
 import utils.Metrics;
 
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,7 +23,7 @@ class BoyerMooreTest {
 
     @BeforeEach
     void setUp() {
-        metrics = new Metrics();
+        metrics = new CountingMetrics();
     }
 
     @AfterEach
@@ -119,4 +122,31 @@ class BoyerMooreTest {
 
         System.out.println("Negative Numbers: Metrics = " + metrics);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFastPathEdgeCases() {
+        assertThrows(IllegalArgumentException.class, () -> BoyerMoore.findMajorityFast(null));
+        assertFalse(BoyerMoore.findMajorityFast(new int[0]).isPresent());
+        assertEquals(42, BoyerMoore.findMajorityFast(new int[]{42}).getAsInt());
+        assertFalse(BoyerMoore.findMajorityFast(new int[]{2, 1, 2, 1}).isPresent());
+        assertEquals(-1, BoyerMoore.findMajorityFast(new int[]{-1, -1, -1, -2, -2}).getAsInt());
+    }
+
+    @Test
+    void testFastPathMatchesInstrumented() {
+        Random random = new Random(7);
+        for (int size : new int[]{2, 3, 17, 4095, 4096, 4097, 20000}) {
+            for (int round = 0; round < 20; round++) {
+                int[] arr = new int[size];
+                boolean withMajority = round % 2 == 0;
+                for (int i = 0; i < size; i++) {
+                    arr[i] = withMajority && i <= size / 2 ? 5 : random.nextInt(4);
+                }
+                Optional<Integer> expected = BoyerMoore.findMajority(arr, metrics);
+                OptionalInt actual = BoyerMoore.findMajorityFast(arr);
+                assertEquals(expected.isPresent(), actual.isPresent(), "size=" + size);
+                expected.ifPresent(v -> assertEquals(v, actual.getAsInt()));
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the multi-producer accumulator: merge of producer states, threads and verification.
+ */
+class ConcurrentMajorityAccumulatorTest {
+
+    @Test
+    void testEmptyAccumulator() {
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        assertTrue(acc.candidate().isEmpty());
+        assertEquals(0, acc.seen());
+        assertTrue(acc.verify(() -> Arrays.stream(new int[0])).isEmpty());
+    }
+
+    @Test
+    void testProducersMatchSequentialVote() {
+        int[] arr = generateArrayWithMajority(10_000, new Random(41));
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        ConcurrentMajorityAccumulator.Producer a = acc.producer();
+        ConcurrentMajorityAccumulator.Producer b = acc.producer();
+        a.accept(arr, 0, 5_000);
+        for (int i = 5_000; i < arr.length; i++) {
+            b.accept(arr[i]);
+        }
+        assertEquals(2, acc.producers());
+        assertEquals(arr.length, acc.seen());
+        assertEquals(Vote.merge(Vote.of(arr, 0, 5_000), Vote.of(arr, 5_000, arr.length)), acc.vote());
+        assertEquals(OptionalInt.of(1), acc.verify(() -> Arrays.stream(arr)));
+    }
+
+    @Test
+    void testNegativeCandidatesSurvivePacking() {
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        ConcurrentMajorityAccumulator.Producer p = acc.producer();
+        p.accept(-7);
+        p.accept(-7);
+        p.accept(Integer.MIN_VALUE);
+        assertEquals(new Vote(-7, 1), acc.vote());
+    }
+
+    @Test
+    void testChunkBoundsChecked() {
+        ConcurrentMajorityAccumulator.Producer p = new ConcurrentMajorityAccumulator().producer();
+        assertThrows(IndexOutOfBoundsException.class, () -> p.accept(new int[3], 2, 2));
+    }
+
+    @Test
+    void testVerifyRejectsCandidateWithoutMajority() {
+        int[] arr = {1, 2, 3, 3, 4};
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        acc.producer().accept(arr, 0, arr.length);
+        assertTrue(acc.candidate().isPresent());
+        assertTrue(acc.verify(() -> Arrays.stream(arr)).isEmpty());
+    }
+
+    @Test
+    void testManyThreadsFindMajority() throws Exception {
+        int threads = 8;
+        int perThread = 200_000;
+        int[] arr = generateArrayWithMajority(threads * perThread, new Random(42));
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int from = t * perThread;
+                futures[t] = pool.submit(() -> {
+                    for (int i = from; i < from + perThread; i++) {
+                        acc.accept(arr[i]);
+                    }
+                });
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(threads, acc.producers());
+        assertEquals(arr.length, acc.seen());
+        assertEquals(OptionalInt.of(1), acc.candidate());
+        assertEquals(OptionalInt.of(1), acc.verify(() -> Arrays.stream(arr)));
+    }
+
+    @Test
+    void testFinishedThreadsAreFoldedIn() throws InterruptedException {
+        int threads = 500;
+        int perThread = 100;
+        int[] arr = generateArrayWithMajority(threads * perThread, new Random(43));
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        ConcurrentMajorityAccumulator.Producer handle = acc.producer();
+        handle.accept(arr[0]);
+        // one short-lived virtual thread per task, as a server would run them
+        for (int t = 0; t < threads; t++) {
+            int from = t * perThread;
+            Thread.ofVirtual().start(() -> {
+                for (int i = Math.max(from, 1); i < from + perThread; i++) {
+                    acc.accept(arr[i]);
+                }
+            }).join();
+        }
+        // registration sweeps keep the cells bounded, the next query folds the rest
+        assertTrue(acc.producers() <= 65, "producers " + acc.producers());
+        assertEquals(arr.length, acc.seen());
+        assertEquals(1, acc.producers()); // only the explicit handle is kept
+        assertEquals(OptionalInt.of(1), acc.candidate());
+        assertEquals(OptionalInt.of(1), acc.verify(() -> Arrays.stream(arr)));
+    }
+}
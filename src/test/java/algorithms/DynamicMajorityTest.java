@@ -0,0 +1,132 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for range majority queries under point updates, checked against a naive count.
+ */
+class DynamicMajorityTest {
+
+    private static OptionalInt naiveMajority(int[] arr, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int c = 0;
+            for (int j = from; j < to; j++) {
+                if (arr[j] == arr[i]) {
+                    c++;
+                }
+            }
+            if (c > (to - from) / 2) {
+                return OptionalInt.of(arr[i]);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    @Test
+    void testNullInput() {
+        assertThrows(IllegalArgumentException.class, () -> new DynamicMajority(null));
+    }
+
+    @Test
+    void testEmptyArray() {
+        DynamicMajority dm = new DynamicMajority(new int[0]);
+        assertEquals(0, dm.size());
+        assertTrue(dm.majority().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> dm.update(0, 1));
+    }
+
+    @Test
+    void testSingleElement() {
+        DynamicMajority dm = new DynamicMajority(new int[]{7});
+        assertEquals(OptionalInt.of(7), dm.majority());
+        dm.update(0, -3);
+        assertEquals(OptionalInt.of(-3), dm.majority());
+        assertEquals(-3, dm.get(0));
+    }
+
+    @Test
+    void testInputIsCopied() {
+        int[] arr = {1, 1, 2};
+        DynamicMajority dm = new DynamicMajority(arr);
+        arr[0] = 2;
+        assertEquals(OptionalInt.of(1), dm.majority());
+    }
+
+    @Test
+    void testUpdatesFlipMajority() {
+        DynamicMajority dm = new DynamicMajority(new int[]{1, 2, 1, 2, 1});
+        assertEquals(OptionalInt.of(1), dm.majority());
+        dm.update(0, 2);
+        assertEquals(OptionalInt.of(2), dm.majority());
+        dm.update(1, 3);
+        assertTrue(dm.majority().isEmpty());
+        assertEquals(1, dm.count(2, 0, 3));
+        assertEquals(OptionalInt.of(2), dm.majority(3, 4));
+        assertEquals(OptionalInt.of(1), dm.majority(2, 5));
+    }
+
+    @Test
+    void testBadRanges() {
+        DynamicMajority dm = new DynamicMajority(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> dm.majority(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> dm.majority(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> dm.get(-1));
+        assertTrue(dm.majority(1, 1).isEmpty());
+    }
+
+    @Test
+    void testRandomUpdatesAndQueriesMatchNaive() {
+        Random random = new Random(11);
+        for (int n : new int[]{1, 2, 3, 17, 64, 257}) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(3);
+            }
+            DynamicMajority dm = new DynamicMajority(arr);
+            for (int step = 0; step < 400; step++) {
+                if (random.nextBoolean()) {
+                    int i = random.nextInt(n);
+                    int x = random.nextInt(4);
+                    arr[i] = x;
+                    dm.update(i, x);
+                }
+                int a = random.nextInt(n + 1);
+                int b = random.nextInt(n + 1);
+                int from = Math.min(a, b);
+                int to = Math.max(a, b);
+                assertEquals(naiveMajority(arr, from, to), dm.majority(from, to), "n=" + n + " [" + from + "," + to + ")");
+                int v = random.nextInt(4);
+                int expected = 0;
+                for (int i = from; i < to; i++) {
+                    if (arr[i] == v) {
+                        expected++;
+                    }
+                }
+                assertEquals(expected, dm.count(v, from, to));
+            }
+        }
+    }
+
+    @Test
+    void testLargeArrayUpdates() {
+        int n = 200_000;
+        int[] arr = cli.CLI.generateArrayWithMajority(n, new Random(12));
+        DynamicMajority dm = new DynamicMajority(arr);
+        assertEquals(OptionalInt.of(1), dm.majority());
+        int ones = dm.count(1, 0, n);
+        //knock the majority down to exactly n / 2 occurrences
+        for (int i = 0; i < n && ones > n / 2; i++) {
+            if (dm.get(i) == 1) {
+                dm.update(i, 2);
+                ones--;
+            }
+        }
+        assertTrue(dm.majority().isEmpty());
+        assertEquals(n / 2, dm.count(1, 0, n));
+    }
+}
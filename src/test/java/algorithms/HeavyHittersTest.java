@@ -0,0 +1,109 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static cli.CLI.generateArrayWithHeavyHitters;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Misra–Gries heavy-hitters engine.
+ */
+class HeavyHittersTest {
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    /** Reference answer with a plain count. */
+    private static int[] expected(int[] arr, int k) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int v : arr) counts.merge(v, 1L, Long::sum);
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue() * k > arr.length)
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> HeavyHitters.find(null, 3, null));
+        assertThrows(IllegalArgumentException.class, () -> HeavyHitters.find(new int[]{1}, 1, null));
+        assertArrayEquals(new int[0], HeavyHitters.find(new int[0], 3, null));
+    }
+
+    @Test
+    void testKEqualsTwoIsMajority() {
+        assertArrayEquals(new int[]{1}, HeavyHitters.find(new int[]{1, 2, 1, 1, 3, 1, 1}, 2, null));
+        assertArrayEquals(new int[0], HeavyHitters.find(new int[]{1, 2, 1, 2}, 2, null));
+    }
+
+    @Test
+    void testThresholdIsStrict() {
+        // 3 of 9 is exactly n/3, so only 7 (4 of 9) qualifies
+        int[] arr = {7, 1, 7, 1, 7, 1, 7, 2, 3};
+        assertArrayEquals(new int[]{7}, HeavyHitters.find(arr, 3, null));
+    }
+
+    @Test
+    void testHugeKOnSmallInput() {
+        // n/k < 1, so every value present is a heavy hitter; the counter tables must not be sized by k
+        int[] arr = {5, 3, 5, 9, 3, 5, 1, 9, 3, 5};
+        assertArrayEquals(new int[]{1, 3, 5, 9}, HeavyHitters.find(arr, Integer.MAX_VALUE, null));
+        assertArrayEquals(new int[]{1, 3, 5, 9}, HeavyHitters.find(arr, 100_000_000, null));
+
+        int[] large = new Random(8).ints(HeavyHitters.SEQUENTIAL_THRESHOLD, 0, 50).toArray();
+        assertArrayEquals(expected(large, Integer.MAX_VALUE), HeavyHitters.find(large, Integer.MAX_VALUE, pool, null));
+    }
+
+    @Test
+    void testPlantedHeavyHitters() {
+        Metrics metrics = new CountingMetrics();
+        int[] arr = generateArrayWithHeavyHitters(10_000, 5, new Random(1));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, HeavyHitters.find(arr, 5, metrics));
+        assertEquals(2L * arr.length, metrics.getArrayAccesses());
+    }
+
+    @Test
+    void testSequentialAndParallelMatchReference() {
+        Random random = new Random(8);
+        int size = HeavyHitters.SEQUENTIAL_THRESHOLD * 3;
+        for (int k : new int[]{2, 3, 4, 10}) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                int r = random.nextInt(100);
+                arr[i] = r < 30 ? 1 : r < 45 ? 2 : r < 52 ? 3 : random.nextInt(50_000);
+            }
+            int[] expected = expected(arr, k);
+            assertArrayEquals(expected, HeavyHitters.find(arr, k, null), "k=" + k);
+            assertArrayEquals(expected, HeavyHitters.find(arr, k, pool, null), "parallel k=" + k);
+        }
+    }
+
+    @Test
+    void testSummaryMergeKeepsHeavyValues() {
+        int[] arr = {5, 5, 5, 1, 2, 3, 5, 5, 4, 6, 5, 7};
+        HeavyHitters.Summary left = HeavyHitters.Summary.of(arr, 0, 6, 3);
+        HeavyHitters.Summary right = HeavyHitters.Summary.of(arr, 6, arr.length, 3);
+        HeavyHitters.Summary merged = left.merge(right);
+        assertTrue(merged.size() <= 2);
+        assertTrue(Arrays.stream(merged.values()).anyMatch(v -> v == 5));
+    }
+}
@@ -0,0 +1,90 @@
+package algorithms;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the fast, parallel and SIMD paths emit JFR call and phase events with their fields.
+ */
+class JfrEventsTest {
+    @TempDir
+    Path dir;
+
+    private static List<RecordedEvent> record(Path file, Runnable work) throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.enable("algorithms.MajorityCall").withThreshold(java.time.Duration.ZERO);
+            recording.enable("algorithms.MajorityPhase").withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name, String engine) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name) && e.getString("engine").equals(engine))
+                .toList();
+    }
+
+    @Test
+    void testSequentialEvents() throws Exception {
+        int[] arr = generateArrayWithMajority(100_000, new Random(61));
+        List<RecordedEvent> events = record(dir.resolve("seq.jfr"), () -> BoyerMoore.findMajorityPacked(arr));
+
+        List<RecordedEvent> calls = ofType(events, "algorithms.MajorityCall", "sequential");
+        assertEquals(1, calls.size());
+        RecordedEvent call = calls.get(0);
+        assertEquals(arr.length, call.getLong("n"));
+        assertEquals(1, call.getInt("chunks"));
+        assertTrue(call.getBoolean("found"));
+        long stop = call.getLong("earlyExitIndex");
+        assertTrue(stop > arr.length / 2 && stop <= arr.length);
+
+        List<RecordedEvent> phases = ofType(events, "algorithms.MajorityPhase", "sequential");
+        assertEquals(List.of("candidate", "verify"), phases.stream().map(e -> e.getString("phase")).sorted().toList());
+    }
+
+    @Test
+    void testNoMajorityReportsNoEarlyExit() throws Exception {
+        int[] arr = {1, 2, 3, 3};
+        List<RecordedEvent> events = record(dir.resolve("none.jfr"), () -> BoyerMoore.findMajorityPacked(arr));
+        RecordedEvent call = ofType(events, "algorithms.MajorityCall", "sequential").get(0);
+        assertFalse(call.getBoolean("found"));
+        assertEquals(-1, call.getLong("earlyExitIndex"));
+    }
+
+    @Test
+    void testParallelAndSimdEvents() throws Exception {
+        int[] arr = generateArrayWithMajority(ParallelBoyerMoore.SEQUENTIAL_THRESHOLD * 2, new Random(62));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<RecordedEvent> events = record(dir.resolve("par.jfr"), () -> {
+                ParallelBoyerMoore.findMajorityPacked(arr, pool, null);
+                VectorBoyerMoore.findMajorityPacked(arr);
+            });
+            RecordedEvent parallel = ofType(events, "algorithms.MajorityCall", "parallel").get(0);
+            assertTrue(parallel.getInt("chunks") > 1);
+            assertTrue(parallel.getBoolean("found"));
+            assertEquals(2, ofType(events, "algorithms.MajorityPhase", "parallel").size());
+
+            RecordedEvent simd = ofType(events, "algorithms.MajorityCall", "simd").get(0);
+            assertTrue(simd.getInt("chunks") >= 1);
+            assertTrue(simd.getBoolean("found"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
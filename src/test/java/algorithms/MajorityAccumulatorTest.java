@@ -0,0 +1,73 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming accumulator.
+ */
+class MajorityAccumulatorTest {
+
+    @Test
+    void testEmptyAccumulator() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        assertFalse(acc.candidate().isPresent());
+        assertEquals(OptionalInt.empty(), acc.verify(IntStream::empty));
+    }
+
+    @Test
+    void testSingleValues() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        for (int v : new int[]{1, 2, 1, 1, 3, 1, 1}) {
+            acc.accept(v);
+        }
+        assertEquals(OptionalInt.of(1), acc.candidate());
+        assertEquals(7, acc.seen());
+    }
+
+    @Test
+    void testChunksMatchArrayPath() {
+        int[] arr = generateArrayWithMajority(10_000, new Random(5));
+        MajorityAccumulator acc = new MajorityAccumulator();
+        for (int off = 0; off < arr.length; off += 333) {
+            acc.accept(arr, off, Math.min(333, arr.length - off));
+        }
+        assertEquals(OptionalInt.of(1), acc.verify(() -> Arrays.stream(arr)));
+        assertEquals(arr.length, acc.seen());
+    }
+
+    @Test
+    void testChunkBoundsChecked() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        assertThrows(IndexOutOfBoundsException.class, () -> acc.accept(new int[4], 2, 3));
+    }
+
+    @Test
+    void testVerifyRejectsUnconfirmedCandidate() {
+        // the last value survives the candidate pass, but it is no majority
+        assertEquals(OptionalInt.empty(), MajorityAccumulator.findMajority(() -> IntStream.of(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    void testParallelStreamCollector() {
+        int[] arr = generateArrayWithMajority(200_000, new Random(9));
+        MajorityAccumulator acc = MajorityAccumulator.collect(Arrays.stream(arr).parallel());
+        assertEquals(OptionalInt.of(1), acc.verify(() -> Arrays.stream(arr).parallel()));
+        assertEquals(arr.length, acc.seen());
+    }
+
+    @Test
+    void testGeneratedStreamWithoutArray() {
+        // 2 out of every 3 values are 4; nothing is ever materialized
+        OptionalInt result = MajorityAccumulator.findMajority(
+                () -> IntStream.range(0, 3_000_000).map(i -> i % 3 == 0 ? i : 4));
+        assertEquals(OptionalInt.of(4), result);
+    }
+}
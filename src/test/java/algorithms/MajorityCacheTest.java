@@ -0,0 +1,97 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the result cache: fingerprint, hit/miss accounting, identity path and eviction.
+ */
+class MajorityCacheTest {
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingMetrics();
+    }
+
+    @Test
+    void testHashMatchesReferenceXxh64() {
+        assertEquals(0xEF46DB3751D8E999L, MajorityCache.hash(new int[0]));
+        assertEquals(0xF42F94001FCB5351L, MajorityCache.hash(new int[]{1}));
+        assertEquals(0xAC049FB813DA8309L, MajorityCache.hash(IntStream.rangeClosed(1, 11).toArray()));
+        assertEquals(0x5835A487AA27FCE8L, MajorityCache.hash(new int[]{-1, 0, 7, 7, 7, -5, 100, 3, 9}));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new MajorityCache(0, false, metrics));
+        MajorityCache cache = new MajorityCache(4, false, null);
+        assertThrows(IllegalArgumentException.class, () -> cache.findMajority(null));
+    }
+
+    @Test
+    void testResultsMatchUncachedPath() {
+        MajorityCache cache = new MajorityCache(64, false, metrics);
+        Random random = new Random(31);
+        for (int n = 0; n < 40; n++) {
+            int[] arr = new int[n];
+            for (int i = 0; i < n; i++) {
+                arr[i] = random.nextInt(3);
+            }
+            assertEquals(BoyerMoore.findMajorityFast(arr), cache.findMajority(arr), "n=" + n);
+            assertEquals(BoyerMoore.findMajorityFast(arr), cache.findMajority(arr.clone()), "n=" + n);
+        }
+    }
+
+    @Test
+    void testContentHitOnEqualCopy() {
+        MajorityCache cache = new MajorityCache(4, false, metrics);
+        int[] arr = generateArrayWithMajority(10_000, new Random(32));
+        assertEquals(OptionalInt.of(1), cache.findMajority(arr));
+        assertEquals(OptionalInt.of(1), cache.findMajority(arr.clone()));
+        assertEquals(1, metrics.getCounter(MajorityCache.MISSES));
+        assertEquals(1, metrics.getCounter(MajorityCache.HITS));
+        assertEquals(0, metrics.getCounter(MajorityCache.IDENTITY_HITS));
+    }
+
+    @Test
+    void testIdentityFastPathAndInvalidate() {
+        MajorityCache cache = new MajorityCache(4, true, metrics);
+        int[] arr = {5, 5, 6};
+        assertEquals(OptionalInt.of(5), cache.findMajority(arr));
+        assertEquals(OptionalInt.of(5), cache.findMajority(arr));
+        assertEquals(1, metrics.getCounter(MajorityCache.IDENTITY_HITS));
+
+        arr[0] = 6;
+        cache.invalidate(arr);
+        assertEquals(OptionalInt.of(6), cache.findMajority(arr));
+        assertEquals(2, metrics.getCounter(MajorityCache.MISSES));
+    }
+
+    @Test
+    void testLruEviction() {
+        MajorityCache cache = new MajorityCache(2, false, metrics);
+        int[] a = {1};
+        int[] b = {2};
+        int[] c = {3};
+        cache.findMajority(a);
+        cache.findMajority(b);
+        cache.findMajority(a); // a is now most recent
+        cache.findMajority(c); // evicts b
+        assertEquals(2, cache.size());
+        assertEquals(1, metrics.getCounter(MajorityCache.EVICTIONS));
+        cache.findMajority(a);
+        assertEquals(2, metrics.getCounter(MajorityCache.HITS));
+        cache.findMajority(b);
+        assertEquals(4, metrics.getCounter(MajorityCache.MISSES));
+    }
+}
@@ -0,0 +1,57 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the packed primitive result and the packed variants of the engines.
+ */
+class MajorityResultTest {
+
+    @Test
+    void testPacking() {
+        for (int v : new int[]{0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            long r = MajorityResult.of(v);
+            assertTrue(MajorityResult.isPresent(r));
+            assertEquals(v, MajorityResult.value(r));
+            assertEquals(OptionalInt.of(v), MajorityResult.toOptional(r));
+            assertEquals(r, MajorityResult.fromOptional(OptionalInt.of(v)));
+        }
+        assertFalse(MajorityResult.isPresent(MajorityResult.NONE));
+        assertThrows(NoSuchElementException.class, () -> MajorityResult.value(MajorityResult.NONE));
+        assertEquals(7, MajorityResult.valueOrElse(MajorityResult.NONE, 7));
+        assertEquals("No majority", MajorityResult.toString(MajorityResult.NONE));
+    }
+
+    @Test
+    void testZeroMajorityIsDistinctFromNone() {
+        long r = BoyerMoore.findMajorityPacked(new int[]{0, 0, 5});
+        assertNotEquals(MajorityResult.NONE, r);
+        assertEquals(0, MajorityResult.value(r));
+    }
+
+    @Test
+    void testPackedEnginesAgree() {
+        Random random = new Random(17);
+        for (int round = 0; round < 30; round++) {
+            int[] arr = new int[1 + random.nextInt(5000)];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = round % 2 == 0 && random.nextBoolean() ? -9 : random.nextInt(3);
+            }
+            long expected = MajorityResult.fromOptional(BoyerMoore.findMajorityFast(arr));
+            assertEquals(expected, BoyerMoore.findMajorityPacked(arr));
+            for (Engine engine : Engine.values()) {
+                assertEquals(expected, engine.findMajorityPacked(arr, ForkJoinPool.commonPool()), engine.name());
+            }
+            MajorityAccumulator acc = new MajorityAccumulator();
+            acc.accept(arr, 0, arr.length);
+            assertEquals(MajorityResult.fromOptional(acc.candidate()), acc.candidatePacked());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static cli.CLI.writeFileWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for majority vote over memory-mapped int32 files.
+ */
+class MappedFileMajorityTest {
+    @TempDir
+    Path dir;
+
+    private Path write(int... values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(values);
+        Path file = Files.createTempFile(dir, "values", ".bin");
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        assertEquals(OptionalInt.empty(), MappedFileMajority.findMajority(write()));
+    }
+
+    @Test
+    void testLittleEndianValues() throws IOException {
+        // 0x01020304 would read as 0x04030201 if the byte order were wrong
+        assertEquals(OptionalInt.of(0x01020304),
+                MappedFileMajority.findMajority(write(0x01020304, -5, 0x01020304)));
+        assertEquals(OptionalInt.empty(), MappedFileMajority.findMajority(write(1, 2, 1, 2)));
+    }
+
+    @Test
+    void testTruncatedFileRejected() throws IOException {
+        Path file = dir.resolve("odd.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IllegalArgumentException.class, () -> MappedFileMajority.findMajority(file));
+    }
+
+    @Test
+    void testGeneratedFileAcrossChunks() throws IOException {
+        Path file = dir.resolve("generated.bin");
+        long count = (1 << 20) * 3L + 12_345; // several generator chunks plus a partial one
+        writeFileWithMajority(file, count, new Random(2));
+        assertEquals(count * Integer.BYTES, Files.size(file));
+
+        Metrics metrics = new CountingMetrics();
+        assertEquals(OptionalInt.of(1), MappedFileMajority.findMajority(file, metrics));
+        assertTrue(metrics.getArrayAccesses() > count && metrics.getArrayAccesses() <= 2 * count);
+    }
+}
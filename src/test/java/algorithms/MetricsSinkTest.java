@@ -0,0 +1,68 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+import utils.StripedMetrics;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that every Metrics sink can be plugged into BoyerMoore and reports the same totals.
+ */
+class MetricsSinkTest {
+
+    @Test
+    void testSinksAgreeOnCounts() {
+        int[] arr = {1, 2, 1, 1, 3, 1, 1};
+        Metrics counting = new CountingMetrics();
+        Metrics striped = new StripedMetrics();
+
+        assertEquals(Optional.of(1), BoyerMoore.findMajority(arr, counting));
+        assertEquals(Optional.of(1), BoyerMoore.findMajority(arr, striped));
+
+        assertEquals(counting.getComparisons(), striped.getComparisons());
+        assertEquals(counting.getArrayAccesses(), striped.getArrayAccesses());
+        assertEquals(counting.getAssignments(), striped.getAssignments());
+    }
+
+    @Test
+    void testNoOpSinkReportsNothing() {
+        Metrics none = Metrics.of("none");
+        assertEquals(Optional.of(7), BoyerMoore.findMajority(new int[]{7, 7, 3}, none));
+        assertEquals(0, none.getArrayAccesses());
+        assertEquals("comparisons=0,arrayAccesses=0,assignments=0", none.toString());
+    }
+
+    @Test
+    void testUnknownSinkRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Metrics.of("histogram"));
+    }
+
+    @Test
+    void testStripedMetricsAcrossThreads() throws InterruptedException {
+        StripedMetrics metrics = new StripedMetrics();
+        int threads = 4;
+        int perThread = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    metrics.incArrayAccesses();
+                }
+                metrics.flush();
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals((long) threads * perThread, metrics.getArrayAccesses());
+
+        metrics.reset();
+        assertEquals(0, metrics.getArrayAccesses());
+    }
+}
@@ -0,0 +1,95 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MemorySegment / IntBuffer / ByteBuffer overloads.
+ */
+class OffHeapBoyerMooreTest {
+
+    @Test
+    void testNativeSegmentMatchesArrayPath() {
+        int[] arr = generateArrayWithMajority(50_000, new Random(4));
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) arr.length * Integer.BYTES, Integer.BYTES);
+            MemorySegment.copy(arr, 0, segment, ValueLayout.JAVA_INT, 0, arr.length);
+            Metrics metrics = new CountingMetrics();
+            assertEquals(BoyerMoore.findMajorityFast(arr),
+                    OffHeapBoyerMoore.findMajority(segment, ByteOrder.nativeOrder(), metrics));
+            assertTrue(metrics.getArrayAccesses() > arr.length);
+        }
+    }
+
+    @Test
+    void testDirectIntBufferUsesRemainingElements() {
+        IntBuffer buffer = ByteBuffer.allocateDirect(6 * Integer.BYTES).order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+        buffer.put(new int[]{2, 2, 2, 5, 5, 5});
+        buffer.position(2); // remaining: 2, 5, 5, 5
+        assertEquals(OptionalInt.of(5), OffHeapBoyerMoore.findMajority(buffer, null));
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    void testIntBufferViewsReadInTheirOwnOrder() {
+        ByteOrder foreign = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        int[] values = {0x01020304, 7, 0x01020304, 0x01020304, -9};
+        for (ByteOrder order : new ByteOrder[]{foreign, ByteOrder.nativeOrder()}) {
+            for (ByteBuffer bytes : new ByteBuffer[]{ByteBuffer.allocateDirect(20), ByteBuffer.allocate(20)}) {
+                IntBuffer view = bytes.order(order).asIntBuffer();
+                view.put(values).flip();
+                assertEquals(order, view.order());
+                // byte-swapped values would give 0x04030201
+                assertEquals(OptionalInt.of(0x01020304), OffHeapBoyerMoore.findMajority(view, null), order + " " + bytes);
+                assertEquals(MajorityResult.of(0x01020304), OffHeapBoyerMoore.findMajorityPacked(view, null));
+            }
+        }
+        IntBuffer wrapped = IntBuffer.wrap(values);
+        assertEquals(ByteOrder.nativeOrder(), wrapped.order());
+        assertEquals(MajorityResult.of(0x01020304), OffHeapBoyerMoore.findMajorityPacked(wrapped, null));
+        assertEquals(MajorityResult.NONE, OffHeapBoyerMoore.findMajorityPacked(IntBuffer.wrap(values, 1, 2), null));
+    }
+
+    @Test
+    void testByteBufferOrderIsHonoured() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0x0A0B0C0D).putInt(7).putInt(0x0A0B0C0D).flip();
+        assertEquals(OptionalInt.of(0x0A0B0C0D), OffHeapBoyerMoore.findMajority(buffer, ByteOrder.LITTLE_ENDIAN, null));
+        assertEquals(OptionalInt.of(0x0D0C0B0A), OffHeapBoyerMoore.findMajority(buffer, ByteOrder.BIG_ENDIAN, null));
+        assertEquals(MajorityResult.of(0x0D0C0B0A),
+                OffHeapBoyerMoore.findMajorityPacked(buffer, ByteOrder.BIG_ENDIAN, null));
+    }
+
+    @Test
+    void testUnalignedByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 0).putInt(-3).putInt(-3).putInt(9).flip().position(1);
+        assertEquals(OptionalInt.of(-3), OffHeapBoyerMoore.findMajority(buffer, ByteOrder.LITTLE_ENDIAN, null));
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> OffHeapBoyerMoore.findMajority((MemorySegment) null, ByteOrder.LITTLE_ENDIAN, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> OffHeapBoyerMoore.findMajority(ByteBuffer.allocate(6), ByteOrder.LITTLE_ENDIAN, null));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapBoyerMoore.findMajorityPacked((IntBuffer) null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> OffHeapBoyerMoore.findMajorityPacked((ByteBuffer) null, ByteOrder.LITTLE_ENDIAN, null));
+        assertEquals(OptionalInt.empty(),
+                OffHeapBoyerMoore.findMajority(ByteBuffer.allocate(0), ByteOrder.LITTLE_ENDIAN, null));
+    }
+}
@@ -0,0 +1,108 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fork/join engine and the vote merge rule it relies on.
+ */
+class ParallelBoyerMooreTest {
+    private static final int LARGE = ParallelBoyerMoore.SEQUENTIAL_THRESHOLD * 4;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testNullInput() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelBoyerMoore.findMajority(null, pool));
+    }
+
+    @Test
+    void testSmallInputFallsBackToSequential() {
+        assertEquals(OptionalInt.of(1), ParallelBoyerMoore.findMajority(new int[]{1, 2, 1}, pool));
+        assertEquals(OptionalInt.empty(), ParallelBoyerMoore.findMajority(new int[0], pool));
+    }
+
+    @Test
+    void testLargeShuffledMajority() {
+        int[] arr = generateArrayWithMajority(LARGE, new Random(1));
+        Metrics metrics = new CountingMetrics();
+        assertEquals(OptionalInt.of(1), ParallelBoyerMoore.findMajority(arr, pool, metrics));
+        assertEquals(2L * LARGE, metrics.getArrayAccesses());
+    }
+
+    @Test
+    void testMajorityConcentratedInOneChunk() {
+        // majority packed at the end: early chunks vote for 2, late chunks for 1
+        int[] arr = new int[LARGE];
+        Arrays.fill(arr, 0, LARGE / 2 - 1, 2);
+        Arrays.fill(arr, LARGE / 2 - 1, LARGE, 1);
+        assertEquals(OptionalInt.of(1), ParallelBoyerMoore.findMajority(arr, pool));
+    }
+
+    @Test
+    void testExactHalfIsNoMajority() {
+        int[] arr = new int[LARGE];
+        for (int i = 0; i < LARGE; i++) arr[i] = i % 2;
+        assertFalse(ParallelBoyerMoore.findMajority(arr, pool).isPresent());
+    }
+
+    @Test
+    void testMatchesSequentialOnRandomInputs() {
+        Random random = new Random(3);
+        for (int round = 0; round < 10; round++) {
+            int[] arr = new int[LARGE + random.nextInt(1000)];
+            int bias = random.nextInt(3); // 0 → no planted majority
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = bias > 0 && random.nextInt(100) < 55 ? 9 : random.nextInt(3);
+            }
+            assertEquals(BoyerMoore.findMajorityFast(arr), ParallelBoyerMoore.findMajority(arr, pool));
+        }
+    }
+
+    @Test
+    void testVoteMerge() {
+        assertEquals(new Vote(1, 5), Vote.merge(new Vote(1, 2), new Vote(1, 3)));
+        assertEquals(new Vote(2, 1), Vote.merge(new Vote(1, 2), new Vote(2, 3)));
+        assertTrue(Vote.merge(new Vote(1, 2), new Vote(2, 2)).isEmpty());
+        assertEquals(new Vote(4, 1), Vote.merge(Vote.EMPTY, new Vote(4, 1)));
+    }
+
+    @Test
+    void testPackedVoteMatchesMerge() {
+        Random random = new Random(12);
+        for (int round = 0; round < 1000; round++) {
+            Vote a = new Vote(random.nextInt(3) - 1, random.nextInt(4));
+            Vote b = new Vote(random.nextInt(3) - 1, random.nextInt(4));
+            long merged = Vote.mergePacked(Vote.pack(a.candidate(), a.count()), Vote.pack(b.candidate(), b.count()));
+            Vote expected = Vote.merge(a, b);
+            assertEquals(expected.count(), Vote.countOf(merged));
+            if (!expected.isEmpty()) {
+                assertEquals(expected.candidate(), Vote.candidateOf(merged));
+            }
+        }
+        assertEquals(new Vote(Integer.MIN_VALUE, (1L << 32) - 1), Vote.unpack(Vote.pack(Integer.MIN_VALUE, (1L << 32) - 1)));
+        int[] arr = {-5, 2, -5, -5, 3};
+        assertEquals(new Vote(-5, 1), Vote.of(arr, 0, arr.length));
+    }
+}
@@ -0,0 +1,71 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the static range-majority index across block sizes, checked against findMajorityFast.
+ */
+class RangeMajorityIndexTest {
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RangeMajorityIndex(null));
+        assertThrows(IllegalArgumentException.class, () -> new RangeMajorityIndex(new int[]{1}, 0));
+        RangeMajorityIndex index = new RangeMajorityIndex(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> index.majority(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.majority(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.count(1, 0, 4));
+    }
+
+    @Test
+    void testEmptyArrayAndRanges() {
+        RangeMajorityIndex empty = new RangeMajorityIndex(new int[0]);
+        assertTrue(empty.majority(0, 0).isEmpty());
+        assertTrue(new RangeMajorityIndex(new int[]{5, 5}).majority(1, 1).isEmpty());
+    }
+
+    @Test
+    void testSimpleQueries() {
+        int[] arr = {3, 3, 4, 2, 4, 4, 2, 4, 4};
+        RangeMajorityIndex index = new RangeMajorityIndex(arr, 2);
+        assertEquals(OptionalInt.of(4), index.majority(0, arr.length));
+        assertEquals(OptionalInt.of(3), index.majority(0, 2));
+        assertTrue(index.majority(0, 4).isEmpty());
+        assertEquals(5, index.count(4, 0, arr.length));
+        assertEquals(0, index.count(7, 0, arr.length));
+    }
+
+    @Test
+    void testRandomQueriesMatchScan() {
+        Random random = new Random(21);
+        for (int blockSize : new int[]{1, 2, 3, 16, 100}) {
+            for (int n : new int[]{1, 7, 64, 1000}) {
+                int[] arr = new int[n];
+                for (int i = 0; i < n; i++) {
+                    arr[i] = random.nextInt(10) < 6 ? 1 : random.nextInt(4);
+                }
+                RangeMajorityIndex index = new RangeMajorityIndex(arr, blockSize);
+                for (int q = 0; q < 300; q++) {
+                    int a = random.nextInt(n + 1);
+                    int b = random.nextInt(n + 1);
+                    int from = Math.min(a, b);
+                    int to = Math.max(a, b);
+                    assertEquals(BoyerMoore.findMajorityFast(Arrays.copyOfRange(arr, from, to)),
+                            index.majority(from, to), "B=" + blockSize + " n=" + n + " [" + from + "," + to + ")");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLargerBlocksUseLessMemory() {
+        int[] arr = cli.CLI.generateArrayWithMajority(100_000, new Random(22));
+        assertTrue(new RangeMajorityIndex(arr, 64).footprintBytes() < new RangeMajorityIndex(arr, 1).footprintBytes());
+    }
+}
@@ -0,0 +1,150 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+import utils.StripedMetrics;
+
+import java.util.Random;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sampling pre-check and its metrics.
+ */
+class SampledBoyerMooreTest {
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingMetrics();
+    }
+
+    private static int[] noMajority(int n, long seed) {
+        Random random = new Random(seed);
+        int[] arr = new int[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = random.nextInt(10);
+        }
+        return arr;
+    }
+
+    @Test
+    void testNullInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SampledBoyerMoore.findMajority(null, SamplingPolicy.DEFAULT, metrics));
+        assertThrows(IllegalArgumentException.class,
+                () -> SampledBoyerMoore.findMajority(new int[]{1}, null, metrics));
+    }
+
+    @Test
+    void testInvalidPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> new SamplingPolicy(1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SamplingPolicy(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new SamplingPolicy(0.99, 0));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.DEFAULT.withAudit(-1));
+    }
+
+    @Test
+    void testSampleSizeGrowsWithConfidence() {
+        assertTrue(new SamplingPolicy(0.999).sampleSize() < new SamplingPolicy(1 - 1e-12).sampleSize());
+        assertEquals(1e-3, new SamplingPolicy(0.999).falseNegativeBound(), 1e-12);
+        assertEquals(0, SamplingPolicy.EXACT.falseNegativeBound());
+    }
+
+    @Test
+    void testRejectsWithoutScanning() {
+        int[] arr = noMajority(1_000_000, 1);
+        long r = SampledBoyerMoore.findMajority(arr, SamplingPolicy.DEFAULT, metrics);
+        assertFalse(MajorityResult.isPresent(r));
+        int s = SamplingPolicy.DEFAULT.sampleSize();
+        assertEquals(s, metrics.getArrayAccesses());
+        assertEquals(s, metrics.getCounter(BoyerMoore.SAMPLED_ELEMENTS));
+        assertEquals(1, metrics.getCounter(SampledBoyerMoore.REJECTIONS));
+    }
+
+    @Test
+    void testFindsMajority() {
+        int[] arr = generateArrayWithMajority(100_000, new Random(2));
+        long r = SampledBoyerMoore.findMajority(arr, SamplingPolicy.DEFAULT, metrics);
+        assertEquals(1, MajorityResult.value(r));
+        assertEquals(0, metrics.getCounter(SampledBoyerMoore.REJECTIONS));
+        assertEquals(1, metrics.getCounter(BoyerMoore.PATH_EXACT));
+    }
+
+    @Test
+    void testBarelyMajorityIsNotRejected() {
+        int n = 100_000;
+        int[] arr = noMajority(n, 3);
+        Random random = new Random(4);
+        for (int placed = 0; placed <= n / 2; ) {
+            int i = random.nextInt(n);
+            if (arr[i] != 42) {
+                arr[i] = 42;
+                placed++;
+            }
+        }
+        long r = SampledBoyerMoore.findMajority(arr, SamplingPolicy.DEFAULT.withSeed(5), metrics);
+        assertEquals(42, MajorityResult.value(r));
+    }
+
+    @Test
+    void testExactPolicyNeverSamples() {
+        int[] arr = noMajority(100_000, 6);
+        long r = SampledBoyerMoore.findMajority(arr, SamplingPolicy.EXACT, metrics);
+        assertFalse(MajorityResult.isPresent(r));
+        assertEquals(0, metrics.getCounter(BoyerMoore.SAMPLED_ELEMENTS));
+        assertEquals(0, metrics.getCounter(SampledBoyerMoore.REJECTIONS));
+        assertTrue(metrics.getArrayAccesses() >= arr.length);
+    }
+
+    @Test
+    void testSmallInputsAreNotSampled() {
+        int[] arr = noMajority(100, 7);
+        SampledBoyerMoore.findMajority(arr, SamplingPolicy.DEFAULT, metrics);
+        assertEquals(0, metrics.getCounter(BoyerMoore.SAMPLED_ELEMENTS));
+    }
+
+    @Test
+    void testAuditedRejectionsReportFalseNegativeRate() {
+        SamplingPolicy policy = new SamplingPolicy(0.999).withAudit(1);
+        for (int seed = 0; seed < 20; seed++) {
+            assertFalse(MajorityResult.isPresent(
+                    SampledBoyerMoore.findMajority(noMajority(50_000, seed), policy, metrics)));
+        }
+        assertEquals(20, metrics.getCounter(SampledBoyerMoore.REJECTIONS));
+        assertEquals(20, metrics.getCounter(SampledBoyerMoore.AUDITS));
+        assertEquals(0, metrics.getCounter(SampledBoyerMoore.FALSE_NEGATIVES));
+        assertEquals(0.0, SampledBoyerMoore.falseNegativeRate(metrics));
+    }
+
+    @Test
+    void testSeededPolicyIsReproducible() {
+        int[] arr = noMajority(100_000, 8);
+        SamplingPolicy policy = new SamplingPolicy(0.99, 64).withSeed(9);
+        Metrics other = new CountingMetrics();
+        SampledBoyerMoore.findMajority(arr, policy, metrics);
+        SampledBoyerMoore.findMajority(arr, policy, other);
+        assertEquals(Metrics.format(metrics), Metrics.format(other));
+    }
+
+    @Test
+    void testRejectionsArePublishedToStripedMetrics() throws InterruptedException {
+        // rejected calls on another thread must be visible here without further flushes
+        StripedMetrics striped = new StripedMetrics();
+        int[] arr = noMajority(100_000, 4);
+        int calls = 5;
+        Thread worker = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < calls; i++) {
+                SampledBoyerMoore.findMajority(arr, SamplingPolicy.DEFAULT, striped);
+            }
+        });
+        worker.join();
+        int s = SamplingPolicy.DEFAULT.sampleSize();
+        assertEquals(calls, striped.getCounter(SampledBoyerMoore.REJECTIONS));
+        assertEquals((long) calls * s, striped.getCounter(BoyerMoore.SAMPLED_ELEMENTS));
+        assertEquals((long) calls * s, striped.getArrayAccesses());
+    }
+}
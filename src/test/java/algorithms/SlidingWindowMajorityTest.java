@@ -0,0 +1,75 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sliding-window majority and its primitive count table.
+ */
+class SlidingWindowMajorityTest {
+
+    @Test
+    void testInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowMajority(0));
+    }
+
+    @Test
+    void testWindowFillsThenSlides() {
+        SlidingWindowMajority w = new SlidingWindowMajority(3);
+        w.push(1);
+        assertEquals(OptionalInt.of(1), w.majority());
+        w.push(2); // [1, 2] - tie
+        assertFalse(w.hasMajority());
+        w.push(2); // [1, 2, 2]
+        assertEquals(OptionalInt.of(2), w.majority());
+        w.push(3); // [2, 2, 3]
+        assertEquals(OptionalInt.of(2), w.majority());
+        w.push(3); // [2, 3, 3]
+        assertEquals(OptionalInt.of(3), w.majority());
+        w.push(1); // [3, 3, 1]
+        assertEquals(OptionalInt.of(3), w.majority());
+        w.push(2); // [3, 1, 2]
+        assertFalse(w.hasMajority());
+        assertArrayEquals(new int[]{3, 1, 2}, w.toArray());
+        assertEquals(1, w.count(3));
+    }
+
+    @Test
+    void testMatchesRecomputationOnRandomStream() {
+        Random random = new Random(21);
+        for (int window : new int[]{1, 2, 7, 64, 501}) {
+            SlidingWindowMajority w = new SlidingWindowMajority(window);
+            for (int i = 0; i < 5000; i++) {
+                // phases with and without a dominant value
+                int v = (i / 300) % 2 == 0 && random.nextInt(100) < 65 ? -4 : random.nextInt(6);
+                w.push(v);
+                assertEquals(BoyerMoore.findMajorityFast(w.toArray()), w.majority(), "window=" + window + " i=" + i);
+            }
+        }
+    }
+
+    @Test
+    void testCountMapRemovalKeepsProbeChains() {
+        IntCountMap map = new IntCountMap(4);
+        Random random = new Random(2);
+        int[] reference = new int[64];
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(64) * 1024; // same low bits, long probe chains
+            if (random.nextBoolean()) {
+                assertEquals(++reference[key / 1024], map.increment(key));
+            } else if (reference[key / 1024] > 0) {
+                assertEquals(--reference[key / 1024], map.decrement(key));
+            }
+        }
+        int distinct = 0;
+        for (int k = 0; k < 64; k++) {
+            assertEquals(reference[k], map.get(k * 1024));
+            if (reference[k] > 0) distinct++;
+        }
+        assertEquals(distinct, map.size());
+    }
+}
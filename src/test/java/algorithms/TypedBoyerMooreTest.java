@@ -0,0 +1,118 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the long/short/byte/object variants.
+ */
+class TypedBoyerMooreTest {
+
+    @Test
+    void testLongKeysBeyondIntRange() {
+        long id = 9_000_000_000L;
+        assertEquals(OptionalLong.of(id), TypedBoyerMoore.findMajority(new long[]{id, 1L, id, id + (1L << 32), id}, null));
+        // differs from id only in the high 32 bits - must not be confused with it
+        assertEquals(OptionalLong.empty(), TypedBoyerMoore.findMajority(new long[]{id, id + (1L << 32)}, null));
+        assertEquals(OptionalLong.empty(), TypedBoyerMoore.findMajority(new long[0], null));
+    }
+
+    @Test
+    void testShortAndByteAreSignExtended() {
+        assertEquals(OptionalInt.of(-2), TypedBoyerMoore.findMajority(new short[]{-2, 7, -2}, null));
+        assertEquals(OptionalInt.of(-128), TypedBoyerMoore.findMajority(new byte[]{-128, -128, 3}, null));
+        assertEquals(OptionalInt.empty(), TypedBoyerMoore.findMajority(new byte[]{1, 2, 1, 2}, null));
+    }
+
+    @Test
+    void testObjectsWithCustomEquality() {
+        String[] words = {"Yes", "no", "YES", "yes", "maybe"};
+        assertEquals(Optional.empty(), TypedBoyerMoore.findMajority(words, null));
+        Optional<String> r = TypedBoyerMoore.findMajority(words, String::equalsIgnoreCase, null);
+        assertTrue(r.isPresent());
+        assertTrue("yes".equalsIgnoreCase(r.get()));
+        assertThrows(IllegalArgumentException.class,
+                () -> TypedBoyerMoore.findMajority(new String[]{"a", null}, null));
+    }
+
+    @Test
+    void testAllVariantsMatchIntVersion() {
+        Random random = new Random(23);
+        for (int round = 0; round < 40; round++) {
+            int size = 1 + random.nextInt(300);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = round % 2 == 0 && random.nextInt(100) < 60 ? 42 : random.nextInt(4);
+            }
+            long[] longs = new long[size];
+            short[] shorts = new short[size];
+            byte[] bytes = new byte[size];
+            Integer[] boxed = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                longs[i] = arr[i];
+                shorts[i] = (short) arr[i];
+                bytes[i] = (byte) arr[i];
+                boxed[i] = arr[i];
+            }
+            OptionalInt expected = BoyerMoore.findMajorityFast(arr);
+            assertEquals(expected.isPresent(), TypedBoyerMoore.findMajority(longs, null).isPresent());
+            assertEquals(expected, TypedBoyerMoore.findMajority(shorts, null));
+            assertEquals(expected, TypedBoyerMoore.findMajority(bytes, null));
+            assertEquals(expected.isPresent() ? Optional.of(expected.getAsInt()) : Optional.empty(),
+                    TypedBoyerMoore.findMajority(boxed, null));
+        }
+    }
+
+    @Test
+    void testCountersMatchIntVersion() {
+        Random random = new Random(31);
+        List<int[]> inputs = new ArrayList<>(List.of(new int[0], new int[]{4}, new int[]{1, 2, 1, 1, 3, 1, 1}));
+        for (int round = 0; round < 60; round++) {
+            inputs.add(random.ints(random.nextInt(200), 0, round % 3 == 0 ? 2 : 5).toArray());
+        }
+        for (int[] arr : inputs) {
+            CountingMetrics expected = new CountingMetrics();
+            BoyerMoore.findMajority(arr, expected);
+            long[] longs = Arrays.stream(arr).asLongStream().toArray();
+            short[] shorts = new short[arr.length];
+            byte[] bytes = new byte[arr.length];
+            for (int i = 0; i < arr.length; i++) {
+                shorts[i] = (short) arr[i];
+                bytes[i] = (byte) arr[i];
+            }
+            Integer[] boxed = Arrays.stream(arr).boxed().toArray(Integer[]::new);
+
+            List<CountingMetrics> actual = List.of(new CountingMetrics(), new CountingMetrics(),
+                    new CountingMetrics(), new CountingMetrics());
+            TypedBoyerMoore.findMajority(longs, actual.get(0));
+            TypedBoyerMoore.findMajorityPacked(shorts, actual.get(1));
+            TypedBoyerMoore.findMajorityPacked(bytes, actual.get(2));
+            TypedBoyerMoore.findMajority(boxed, actual.get(3));
+            for (CountingMetrics m : actual) {
+                String input = Arrays.toString(arr);
+                assertEquals(expected.getComparisons(), m.getComparisons(), input);
+                assertEquals(expected.getArrayAccesses(), m.getArrayAccesses(), input);
+                assertEquals(expected.getAssignments(), m.getAssignments(), input);
+            }
+        }
+    }
+
+    @Test
+    void testMetricsAreRecorded() {
+        Metrics metrics = new CountingMetrics();
+        TypedBoyerMoore.findMajority(new long[]{1, 1, 1, 2, 2}, metrics);
+        assertTrue(metrics.getArrayAccesses() >= 5 && metrics.getArrayAccesses() <= 10);
+        assertTrue(metrics.getComparisons() > 0);
+    }
+}
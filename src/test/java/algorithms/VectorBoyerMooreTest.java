@@ -0,0 +1,62 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Vector API engine and the Engine selector.
+ */
+class VectorBoyerMooreTest {
+
+    @Test
+    void testSimdModuleLoadedInTests() {
+        // surefire adds jdk.incubator.vector, so SIMD must not silently fall back here
+        assertTrue(Engine.isSimdAvailable());
+    }
+
+    @Test
+    void testEdgeCases() {
+        assertThrows(IllegalArgumentException.class, () -> VectorBoyerMoore.findMajority(null));
+        assertEquals(OptionalInt.empty(), VectorBoyerMoore.findMajority(new int[0]));
+        assertEquals(OptionalInt.of(42), VectorBoyerMoore.findMajority(new int[]{42}));
+        assertEquals(OptionalInt.empty(), VectorBoyerMoore.findMajority(new int[]{2, 1, 2, 1}));
+    }
+
+    @Test
+    void testMajoritySplitAcrossLanes() {
+        // majority sits in a contiguous run, so most lanes first vote for other values
+        int[] arr = new int[1000];
+        Arrays.fill(arr, 0, 499, 3);
+        Arrays.fill(arr, 499, 1000, -7);
+        assertEquals(OptionalInt.of(-7), VectorBoyerMoore.findMajority(arr));
+    }
+
+    @Test
+    void testAllEnginesAgree() {
+        Random random = new Random(11);
+        for (int size : new int[]{1, 5, 31, 64, 4097, 300_000}) {
+            for (int round = 0; round < 10; round++) {
+                int[] arr = new int[size];
+                boolean planted = round % 2 == 0;
+                for (int i = 0; i < size; i++) {
+                    arr[i] = planted && random.nextInt(100) < 60 ? 8 : random.nextInt(5);
+                }
+                OptionalInt expected = BoyerMoore.findMajorityFast(arr);
+                for (Engine engine : Engine.values()) {
+                    assertEquals(expected, engine.findMajority(arr), engine + " size=" + size);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEngineOf() {
+        assertEquals(Engine.SIMD, Engine.of(" simd "));
+        assertThrows(IllegalArgumentException.class, () -> Engine.of("gpu"));
+    }
+}
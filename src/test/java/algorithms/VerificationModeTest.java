@@ -0,0 +1,84 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.CountingMetrics;
+import utils.Metrics;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static cli.CLI.generateArrayWithMajority;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the explicit verification modes and the path counters they report.
+ */
+class VerificationModeTest {
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CountingMetrics();
+    }
+
+    @Test
+    void testNullMode() {
+        assertThrows(IllegalArgumentException.class, () -> BoyerMoore.findMajority(new int[]{1}, null, metrics));
+    }
+
+    @Test
+    void testAssumeMajoritySkipsSecondPass() {
+        int[] arr = generateArrayWithMajority(10_000, new Random(1));
+        long r = BoyerMoore.findMajority(arr, Verification.ASSUME_MAJORITY, metrics);
+        assertEquals(1, MajorityResult.value(r));
+        assertEquals(arr.length, metrics.getArrayAccesses());
+        assertEquals(1, metrics.getCounter(BoyerMoore.PATH_ASSUMED));
+    }
+
+    @Test
+    void testAssumeMajorityStillReportsFullCancellation() {
+        long r = BoyerMoore.findMajority(new int[]{1, 2, 3, 4}, Verification.ASSUME_MAJORITY, metrics);
+        assertEquals(MajorityResult.NONE, r);
+        assertEquals(1, metrics.getCounter(BoyerMoore.PATH_NO_CANDIDATE));
+    }
+
+    @Test
+    void testExactMatchesFastPath() {
+        int[] noMajority = {1, 2, 3, 1, 2, 3, 3};
+        assertEquals(MajorityResult.NONE, BoyerMoore.findMajority(noMajority, Verification.EXACT, metrics));
+        assertEquals(MajorityResult.of(7), BoyerMoore.findMajority(new int[]{7, 7, 2}, Verification.EXACT, metrics));
+        assertEquals(2, metrics.getCounter(BoyerMoore.PATH_EXACT) + metrics.getCounter(BoyerMoore.PATH_NO_CANDIDATE));
+    }
+
+    @Test
+    void testSampledRejectsNoMajorityQuickly() {
+        // the last value becomes the candidate but is rare overall
+        int[] arr = new int[100_001];
+        for (int i = 0; i < arr.length - 1; i++) arr[i] = i % 2;
+        arr[arr.length - 1] = 9;
+        long r = BoyerMoore.findMajority(arr, Verification.SAMPLED, metrics);
+        assertEquals(MajorityResult.NONE, r);
+        assertEquals(1, metrics.getCounter(BoyerMoore.PATH_SAMPLE_REJECTED));
+        assertTrue(metrics.getArrayAccesses() < arr.length + 2 * SamplingPolicy.DEFAULT.sampleSize());
+    }
+
+    @Test
+    void testSampledKeepsNarrowMajority() {
+        // 50.1% majority: the sample cannot rule it out, so the exact count decides
+        int size = 200_000;
+        int[] arr = new int[size];
+        Arrays.fill(arr, 0, size / 2 + 200, 5);
+        for (int i = size / 2 + 200; i < size; i++) arr[i] = i;
+        Random random = new Random(4);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = arr[i]; arr[i] = arr[j]; arr[j] = t;
+        }
+        for (int round = 0; round < 20; round++) {
+            assertEquals(MajorityResult.of(5), BoyerMoore.findMajority(arr, Verification.SAMPLED, metrics));
+        }
+        assertEquals(20, metrics.getCounter(BoyerMoore.PATH_SAMPLE_THEN_EXACT));
+        assertTrue(metrics.toString().contains(BoyerMoore.PATH_SAMPLE_THEN_EXACT + "=20"));
+    }
+}
@@ -0,0 +1,159 @@
+package becnhmark;
+
+import becnhmark.RegressionGate.Comparison;
+import becnhmark.RegressionGate.Score;
+import becnhmark.RegressionGate.Verdict;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the JMH regression gate: JSON reading, the interval/threshold verdicts and the
+ * report. The end-to-end gate against the checked-in baseline only runs with
+ * {@code mvn -Pperf-gate test} (or {@code -Dperf.gate=true}).
+ */
+class RegressionGateTest {
+
+    private static final Path BASELINE = Path.of("src/test/resources/benchmarks/majority-suite-baseline.json");
+
+    private static String result(String mode, Map<String, String> params, String score, String error) {
+        StringBuilder json = new StringBuilder("{\"benchmark\":\"becnhmark.MajoritySuiteBenchmark.measureMajority\",");
+        json.append("\"mode\":\"").append(mode).append("\",\"params\":{");
+        params.forEach((k, v) -> json.append('"').append(k).append("\":\"").append(v).append("\","));
+        if (!params.isEmpty()) {
+            json.setLength(json.length() - 1);
+        }
+        json.append("},\"primaryMetric\":{\"score\":").append(score).append(",\"scoreError\":").append(error)
+                .append(",\"scoreUnit\":\"").append(mode.equals("thrpt") ? "ops/ms" : "ms/op").append("\"}}");
+        return json.toString();
+    }
+
+    private static Score score(String mode, double score, double error) {
+        return new Score("bench " + mode, mode, score, error, "u");
+    }
+
+    @Test
+    void testParsesPlainAndWrappedResults() {
+        String one = result("thrpt", Map.of("size", "1000", "engine", "fast"), "12.5", "\"NaN\"");
+        Score plain = RegressionGate.parse("[" + one + "]").getFirst();
+        assertEquals("MajoritySuiteBenchmark.measureMajority(engine=fast, size=1000) thrpt", plain.key());
+        assertEquals(12.5, plain.score());
+        assertTrue(Double.isNaN(plain.error()));
+        assertEquals("ops/ms", plain.unit());
+
+        String wrapped = "{\"_meta\":{\"notes\":[\"a \\\"quoted\\\" \\u00b1 note\", null, true, -1.5e3]},\n \"results\": [ " + one + " ] }";
+        assertEquals(List.of(plain), RegressionGate.parse(wrapped));
+
+        assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[" + one));
+        assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("{\"results\": 1}"));
+        assertThrows(IllegalArgumentException.class, () -> RegressionGate.parse("[] x"));
+    }
+
+    @Test
+    void testCheckedInBaselineCoversSuite() throws Exception {
+        List<Score> scores = RegressionGate.read(BASELINE);
+        // 4 engines x 5 distributions x 2 sizes x (thrpt, sample)
+        assertEquals(80, scores.size());
+        assertEquals(80, scores.stream().map(Score::key).distinct().count());
+        assertTrue(scores.stream().allMatch(s -> s.score() > 0));
+    }
+
+    @Test
+    void testThroughputVerdicts() {
+        Score base = score("thrpt", 100, 5);
+        // 40% slower, intervals disjoint
+        assertEquals(Verdict.REGRESSED, verdict(base, score("thrpt", 60, 5), 0.25));
+        // 40% slower but the intervals overlap: noise, not a regression
+        assertEquals(Verdict.UNCHANGED, verdict(base, score("thrpt", 60, 40), 0.25));
+        // significant but below the threshold
+        assertEquals(Verdict.UNCHANGED, verdict(base, score("thrpt", 85, 1), 0.25));
+        assertEquals(Verdict.IMPROVED, verdict(base, score("thrpt", 140, 5), 0.25));
+        // a missing error is a zero-width interval
+        assertEquals(Verdict.REGRESSED, verdict(score("thrpt", 100, Double.NaN), score("thrpt", 70, Double.NaN), 0.25));
+    }
+
+    @Test
+    void testTimeVerdictsAreInverted() {
+        Score base = score("sample", 10, 0.5);
+        assertEquals(Verdict.REGRESSED, verdict(base, score("sample", 20, 0.5), 0.25));
+        assertEquals(Verdict.IMPROVED, verdict(base, score("sample", 5, 0.5), 0.25));
+        assertEquals(Verdict.UNCHANGED, verdict(base, score("sample", 11, 0.5), 0.25));
+        Comparison c = RegressionGate.compare(List.of(base), List.of(score("sample", 20, 0.5)), 0.25).getFirst();
+        assertEquals(1.0, c.slowdown(), 1e-12);
+    }
+
+    @Test
+    void testNewMissingAndReport() {
+        Score slow = new Score("a thrpt", "thrpt", 50, 1, "ops/ms");
+        Score gone = new Score("b thrpt", "thrpt", 50, 1, "ops/ms");
+        Score added = new Score("c thrpt", "thrpt", 50, 1, "ops/ms");
+        List<Comparison> comparisons = RegressionGate.compare(
+                List.of(new Score("a thrpt", "thrpt", 100, 1, "ops/ms"), gone), List.of(slow, added), 0.25);
+
+        assertEquals(List.of(Verdict.REGRESSED, Verdict.MISSING, Verdict.NEW),
+                comparisons.stream().map(Comparison::verdict).toList());
+        assertEquals(1, RegressionGate.regressions(comparisons).size());
+
+        String report = RegressionGate.report(comparisons, 0.25);
+        assertTrue(report.contains("!! a thrpt"), report);
+        assertTrue(report.contains("+50.0%"), report);
+        assertTrue(report.contains("1 of 2 compared benchmarks regressed by more than 25%"), report);
+        assertTrue(report.contains("(1 baseline benchmarks not run)"), report);
+        assertFalse(report.contains("b thrpt"), report);
+
+        assertThrows(IllegalArgumentException.class, () -> RegressionGate.compare(List.of(), List.of(), -0.1));
+    }
+
+    /**
+     * Suite subset run by the gate. SampleTime at 10^6 elements: thousands of samples give a
+     * score error of a few percent, where the throughput intervals of this suite are too wide
+     * to ever be disjoint. Runs the full 5 + 5 iterations the baseline was recorded with.
+     */
+    private static final String[] GATE_ARGS = {MajoritySuiteBenchmark.class.getSimpleName(),
+            "--mode", "sample", "--sizes", "1000000", "--param", "engine=instrumented,fast,simd",
+            "--param", "distribution=majority,no-majority"};
+
+    private static List<Score> gatedBaseline() throws Exception {
+        return RegressionGate.read(BASELINE).stream()
+                .filter(s -> s.mode().equals("sample") && s.key().contains("size=1000000")
+                        && s.key().matches(".*engine=(instrumented|fast|simd).*")
+                        && s.key().matches(".*distribution=(majority|no-majority),.*"))
+                .toList();
+    }
+
+    @Test
+    void testGatedBaselineIsTightEnoughToDetectThreshold() throws Exception {
+        List<Score> gated = gatedBaseline();
+        assertEquals(6, gated.size());
+        double t = RegressionGate.DEFAULT_THRESHOLD;
+        for (Score base : gated) {
+            // a slowdown of exactly t with the same relative error on both sides only separates
+            // the intervals when error / score < t / (2 + t), i.e. about 11% for t = 25%
+            assertTrue(base.error() < t / (2 + t) * base.score(), base.key() + " error " + base.error());
+            // a 2x slower engine measured with the same spread must fail the gate
+            Score twiceAsSlow = new Score(base.key(), base.mode(), 2 * base.score(), 2 * base.error(), base.unit());
+            assertEquals(Verdict.REGRESSED, verdict(base, twiceAsSlow, t), base.key());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "perf.gate", matches = "true")
+    void testSuiteHasNotRegressedAgainstBaseline() throws Exception {
+        double threshold = Double.parseDouble(System.getProperty("perf.gate.threshold",
+                Double.toString(RegressionGate.DEFAULT_THRESHOLD)));
+        List<Comparison> comparisons = JMHRunner.gate(GATE_ARGS, BASELINE, Path.of(JMHRunner.GATE_RESULT), threshold);
+        String report = RegressionGate.report(comparisons, threshold);
+        System.out.print(report);
+        assertEquals(6, comparisons.stream().filter(c -> c.verdict() != Verdict.MISSING).count(), report);
+        assertTrue(RegressionGate.regressions(comparisons).isEmpty(), "Performance regression:\n" + report);
+    }
+
+    private static Verdict verdict(Score base, Score current, double threshold) {
+        return RegressionGate.compare(List.of(base), List.of(current), threshold).getFirst().verdict();
+    }
+}
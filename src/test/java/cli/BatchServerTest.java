@@ -0,0 +1,138 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batch server protocol, the stdin/stdout loop and the Unix-domain socket.
+ */
+class BatchServerTest {
+
+    @Test
+    void testHandleJobs() {
+        try (BatchServer server = new BatchServer(2)) {
+            assertEquals("a ok pong", server.handle("a ping"));
+            assertTrue(server.handle("b values sequential 3 3 4").startsWith("b ok 3 "));
+            assertTrue(server.handle("c values parallel 1 2 3").startsWith("c ok none "));
+            assertTrue(server.handle("d random simd 1001 7").startsWith("d ok 1 "));
+            String stats = server.handle("e stats");
+            assertTrue(stats.startsWith("e ok [{\"engine\":\"parallel\",\"sizeBucket\":\"1e0\",\"calls\":1,"), stats);
+            assertEquals(3, server.latency().snapshot().size());
+        }
+    }
+
+    @Test
+    void testBadJobsReportErrors() {
+        try (BatchServer server = new BatchServer(1)) {
+            assertTrue(server.handle("x").startsWith("x error"));
+            assertTrue(server.handle("y frobnicate").startsWith("y error"));
+            assertTrue(server.handle("z values warp 1").startsWith("z error"));
+            assertTrue(server.handle("w values sequential one").startsWith("w error"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BatchServer(0));
+    }
+
+    @Test
+    void testFileJob() throws Exception {
+        Path file = Files.createTempFile("majority", ".bin");
+        try (BatchServer server = new BatchServer(1)) {
+            CLI.writeFileWithMajority(file, 5000, new Random(51));
+            assertTrue(server.handle("f file " + file).startsWith("f ok 1 "));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testServeAnswersEveryJob() throws Exception {
+        StringBuilder jobs = new StringBuilder("# comment\n\n");
+        for (int i = 0; i < 50; i++) {
+            jobs.append(i).append(" random sequential 2001 ").append(i).append('\n');
+        }
+        StringWriter out = new StringWriter();
+        try (BatchServer server = new BatchServer(4)) {
+            server.serve(new BufferedReader(new StringReader(jobs.toString())), out);
+        }
+        List<String> lines = out.toString().lines().toList();
+        assertEquals(50, lines.size());
+        assertEquals(50, lines.stream().map(l -> l.split(" ")[0]).distinct().count());
+        assertTrue(lines.stream().allMatch(l -> l.split(" ")[2].equals("1")));
+    }
+
+    @Test
+    void testErrorsStillAnswerTheJob() throws Exception {
+        // new int[Integer.MAX_VALUE] fails at once with an OutOfMemoryError, without using the heap
+        String jobs = "a random sequential " + Integer.MAX_VALUE + "\nb ping\n";
+        StringWriter out = new StringWriter();
+        try (BatchServer server = new BatchServer(2)) {
+            server.serve(new BufferedReader(new StringReader(jobs)), out);
+        }
+        List<String> lines = out.toString().lines().sorted().toList();
+        assertEquals(2, lines.size(), out.toString());
+        assertTrue(lines.get(0).startsWith("a error OutOfMemoryError"), lines.get(0));
+        assertEquals("b ok pong", lines.get(1));
+    }
+
+    /** Connects once the server has bound and started listening. */
+    private static SocketChannel connect(Path socket) throws Exception {
+        for (int attempt = 0; ; attempt++) {
+            SocketChannel client = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                client.connect(UnixDomainSocketAddress.of(socket));
+                return client;
+            } catch (IOException e) {
+                client.close();
+                if (attempt == 100) {
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    @Test
+    void testUnixSocket() throws Exception {
+        Path socket = Files.createTempDirectory("batch").resolve("server.sock");
+        BatchServer server = new BatchServer(2);
+        Thread acceptor = Thread.ofVirtual().start(() -> {
+            try {
+                server.serveSocket(socket);
+            } catch (Exception ignored) {
+                // closed by the test
+            }
+        });
+        try {
+            try (SocketChannel client = connect(socket)) {
+                Writer out = Channels.newWriter(client, StandardCharsets.UTF_8);
+                out.write("1 values sequential 5 5 6\n2 ping\n");
+                out.flush();
+                client.shutdownOutput();
+                BufferedReader in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+                String[] responses = {in.readLine(), in.readLine()};
+                Arrays.sort(responses);
+                assertTrue(responses[0].startsWith("1 ok 5 "));
+                assertEquals("2 ok pong", responses[1]);
+            }
+        } finally {
+            acceptor.interrupt();
+            Files.deleteIfExists(socket);
+        }
+    }
+}
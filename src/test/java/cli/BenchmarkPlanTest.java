@@ -0,0 +1,128 @@
+package cli;
+
+import algorithms.BoyerMoore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for flag parsing, the generated distributions and a small end-to-end plan run.
+ */
+class BenchmarkPlanTest {
+
+    @Test
+    void testDefaults() {
+        BenchmarkPlan plan = BenchmarkPlan.parse();
+        assertArrayEquals(new int[]{100, 500, 1000, 5000, 10000}, plan.sizes());
+        assertEquals(List.of(Distribution.MAJORITY), plan.distributions());
+        assertEquals(List.of("sequential"), plan.engines());
+        assertEquals(1, plan.reps());
+        assertEquals(0, plan.warmup());
+        assertEquals("results.csv", plan.out());
+        assertFalse(plan.append());
+    }
+
+    @Test
+    void testAllFlags() {
+        BenchmarkPlan plan = BenchmarkPlan.parse("--sizes", "1e3,10^6,1_000_000_000", "--distributions", "zipf,no-majority",
+                "--engines", "instrumented,Parallel,simd", "--reps", "3", "--warmup", "2", "--threads", "4",
+                "--seed", "7", "--metrics", "striped", "--out", "x.csv", "--append");
+        assertArrayEquals(new int[]{1000, 1_000_000, 1_000_000_000}, plan.sizes());
+        assertEquals(List.of(Distribution.ZIPF, Distribution.NO_MAJORITY), plan.distributions());
+        assertEquals(List.of("instrumented", "parallel", "simd"), plan.engines());
+        assertEquals(3, plan.reps());
+        assertEquals(2, plan.warmup());
+        assertEquals(4, plan.threads());
+        assertEquals(7, plan.seed());
+        assertEquals("striped", plan.metrics());
+        assertEquals("x.csv", plan.out());
+        assertTrue(plan.append());
+    }
+
+    @Test
+    void testInvalidFlags() {
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--bogus"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--sizes"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--sizes", "0"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--sizes", "1e10"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--sizes", "abc"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--engines", "gpu"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--distributions", "normal"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--reps", "0"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--metrics", "fancy"));
+    }
+
+    @Test
+    void testDistributions() {
+        int n = 10_001;
+        assertEquals(OptionalInt.of(1), BoyerMoore.findMajorityFast(Distribution.MAJORITY.generate(n, 1)));
+        assertTrue(BoyerMoore.findMajorityFast(Distribution.NO_MAJORITY.generate(n, 1)).isEmpty());
+        assertTrue(BoyerMoore.findMajorityFast(Distribution.ZIPF.generate(n, 1)).isEmpty());
+        assertEquals(OptionalInt.of(1), BoyerMoore.findMajorityFast(Distribution.ALTERNATING.generate(n, 1)));
+        assertTrue(BoyerMoore.findMajorityFast(Distribution.ALTERNATING.generate(n - 1, 1)).isEmpty());
+
+        int[] sorted = Distribution.SORTED.generate(n, 1);
+        int[] copy = sorted.clone();
+        Arrays.sort(copy);
+        assertArrayEquals(copy, sorted);
+        assertEquals(OptionalInt.of(50), BoyerMoore.findMajorityFast(sorted));
+
+        assertArrayEquals(Distribution.ZIPF.generate(1000, 5), Distribution.ZIPF.generate(1000, 5));
+        assertEquals(Distribution.NO_MAJORITY, Distribution.of(Distribution.NO_MAJORITY.label()));
+    }
+
+    @Test
+    void testSmallDistributionSizes() {
+        for (Distribution d : Distribution.values()) {
+            for (int n = 1; n < 5; n++) {
+                assertEquals(n, d.generate(n, 3).length);
+            }
+        }
+    }
+
+    @Test
+    void testRunPlanWritesOneRowPerMeasuredRun() throws Exception {
+        Path out = Files.createTempFile("plan", ".csv");
+        try {
+            BenchmarkPlan plan = BenchmarkPlan.parse("--sizes", "1000,2000", "--distributions", "majority,sorted",
+                    "--engines", "instrumented,parallel", "--reps", "2", "--warmup", "1", "--threads", "2",
+                    "--out", out.toString());
+            CLI.runPlan(plan);
+            List<String> lines = Files.readAllLines(out);
+            assertEquals("Algorithm_Name,n,timeMs,comparisons,arrayAccesses,assignments", lines.get(0));
+            assertEquals(1 + 2 * 2 * 2 * 2, lines.size());
+            assertTrue(lines.stream().anyMatch(l -> l.startsWith("Boyer_Moore_parallel_sorted,2000,")));
+            String instrumented = lines.stream().filter(l -> l.startsWith("Boyer_Moore_instrumented_majority,1000,")).findFirst().orElseThrow();
+            assertNotEquals("0", instrumented.split(",")[4]);
+        } finally {
+            Files.deleteIfExists(out);
+        }
+    }
+
+    @Test
+    void testRunPlanBinaryAsync() throws Exception {
+        Path bin = Files.createTempFile("plan", ".bin");
+        Path csv = Files.createTempFile("plan", ".csv");
+        try {
+            CLI.runPlan(BenchmarkPlan.parse("--sizes", "1000", "--engines", "sequential,simd", "--reps", "3",
+                    "--format", "binary", "--async", "--out", bin.toString()));
+            assertEquals(6, utils.BinaryResultsExporter.export(bin, csv));
+            Path latency = Path.of(bin + ".latency.json");
+            CLI.runPlan(BenchmarkPlan.parse("--sizes", "1000", "--engines", "sequential", "--reps", "4",
+                    "--out", csv.toString(), "--latency", latency.toString()));
+            assertTrue(Files.readString(latency).contains("\"engine\":\"sequential\",\"sizeBucket\":\"1e3\",\"calls\":4"));
+            Files.delete(latency);
+            assertTrue(Files.readAllLines(csv).get(1).startsWith("Boyer_Moore_sequential_majority,1000,"));
+        } finally {
+            Files.deleteIfExists(bin);
+            Files.deleteIfExists(csv);
+        }
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkPlan.parse("--format", "xml"));
+    }
+}
@@ -0,0 +1,113 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the log-linear histogram and the per-engine latency registry with its exports.
+ */
+class LatencyRegistryTest {
+
+    @Test
+    void testBucketBoundsCoverEveryValue() {
+        Random random = new Random(71);
+        for (int i = 0; i < 100_000; i++) {
+            long v = random.nextLong() >>> (1 + random.nextInt(63));
+            int index = LatencyHistogram.index(v);
+            long upper = LatencyHistogram.highestEquivalent(index);
+            assertTrue(upper >= v, "v=" + v);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalent(index - 1) < v, "v=" + v);
+            assertTrue(upper - v <= v / 64, "v=" + v);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalent(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            h.record(v);
+        }
+        LatencyHistogram.Snapshot s = h.snapshot();
+        assertEquals(100_000, s.count());
+        assertEquals(1, s.min());
+        assertEquals(100_000, s.max());
+        assertEquals(50_000.5, s.mean(), 1e-9);
+        assertEquals(50_000, s.p50(), 50_000 / 64.0);
+        assertEquals(99_000, s.p99(), 99_000 / 64.0);
+        assertEquals(99_900, s.p999(), 99_900 / 64.0);
+        assertThrows(IllegalArgumentException.class, () -> h.record(-1));
+        h.reset();
+        assertEquals(0, h.snapshot().count());
+    }
+
+    @Test
+    void testConcurrentRecording() throws Exception {
+        LatencyHistogram h = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    h.record(i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(100_000, h.count());
+        assertEquals(24_999, h.snapshot().max());
+    }
+
+    @Test
+    void testRegistryBucketsAndInFlight() {
+        LatencyRegistry registry = new LatencyRegistry();
+        LatencyRegistry.Sample running = registry.start("parallel", 5_000_000);
+        registry.record("sequential", 1_000, 2_000);
+        registry.record("sequential", 9_999, 4_000);
+        registry.record("sequential", 10_000, 8_000);
+
+        List<LatencyRegistry.Row> rows = registry.snapshot();
+        assertEquals(List.of("parallel|1e6", "sequential|1e3", "sequential|1e4"),
+                rows.stream().map(r -> r.engine() + "|" + r.sizeBucket()).toList());
+        assertEquals(1, rows.get(0).inFlight());
+        assertEquals(0, rows.get(0).calls());
+        assertEquals(2, rows.get(1).calls());
+        assertTrue(rows.get(1).elementsPerSecond() > 0);
+
+        running.stop();
+        running.stop(); // second stop is ignored
+        running.discard(); // and so is a discard after stop
+        LatencyRegistry.Row parallel = registry.snapshot().get(0);
+        assertEquals(0, parallel.inFlight());
+        assertEquals(1, parallel.calls());
+
+        LatencyRegistry.Sample failed = registry.start("parallel", 5_000_000);
+        failed.discard();
+        assertEquals(1, registry.snapshot().get(0).calls());
+        assertEquals(0, registry.snapshot().get(0).inFlight());
+    }
+
+    @Test
+    void testCsvAndJsonExport() throws Exception {
+        LatencyRegistry registry = new LatencyRegistry();
+        registry.record("simd", 100, 1_000);
+        StringBuilder csv = new StringBuilder();
+        registry.writeCsv(csv);
+        List<String> lines = csv.toString().lines().toList();
+        assertEquals(LatencyRegistry.CSV_HEADER, lines.get(0));
+        assertTrue(lines.get(1).startsWith("simd,1e2,1,0,"));
+        assertTrue(lines.get(1).endsWith(",1000,1000,1000,1000,1000,1000"));
+
+        StringBuilder json = new StringBuilder();
+        registry.writeJson(json);
+        assertTrue(json.toString().startsWith("[{\"engine\":\"simd\",\"sizeBucket\":\"1e2\",\"calls\":1,"));
+        assertTrue(json.toString().endsWith("\"p999Ns\":1000,\"maxNs\":1000}]"));
+    }
+}
@@ -0,0 +1,272 @@
+package utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the CSV, binary and asynchronous result loggers and the binary-to-CSV export.
+ */
+class ResultLoggerTest {
+    @TempDir
+    Path dir;
+
+    private static void logSample(ResultLogger logger) throws IOException {
+        CountingMetrics m = new CountingMetrics();
+        m.addComparisons(10);
+        m.addArrayAccesses(20);
+        m.addAssignments(30);
+        logger.logResult("Boyer_Moore", 100, 1_500_000, m);
+        logger.logResult("A_name_that_is_definitely_longer_than_32_bytes", 5_000_000_000L, 42, 1, 2, 3);
+    }
+
+    @Test
+    void testCsvRowFormat() throws IOException {
+        Path csv = dir.resolve("r.csv");
+        try (CSVLogger logger = new CSVLogger(csv.toString(), false)) {
+            logSample(logger);
+        }
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals(CSVLogger.HEADER, lines.get(0));
+        assertEquals("Boyer_Moore,100,1.5,10,20,30,", lines.get(1));
+        assertEquals("A_name_that_is_definitely_longer_than_32_bytes,5000000000,4.2E-5,1,2,3,", lines.get(2));
+    }
+
+    @Test
+    void testCsvAppendKeepsSingleHeader() throws IOException {
+        Path csv = dir.resolve("r.csv");
+        try (CSVLogger logger = new CSVLogger(csv.toString(), false)) {
+            logger.logResult("x", 1, 1, 0, 0, 0);
+        }
+        try (CSVLogger logger = new CSVLogger(csv.toString(), true)) {
+            logger.logResult("y", 2, 2, 0, 0, 0);
+        }
+        assertEquals(3, Files.readAllLines(csv).size());
+    }
+
+    @Test
+    void testBinaryRoundTripThroughExporter() throws IOException {
+        Path bin = dir.resolve("r.bin");
+        try (BinaryResultLogger logger = new BinaryResultLogger(bin, false)) {
+            logSample(logger);
+        }
+        try (BinaryResultLogger logger = new BinaryResultLogger(bin, true)) {
+            logger.logResult("appended", 7, 8, 9, 10, 11);
+        }
+        assertEquals(Long.BYTES + 3L * BinaryResultLogger.RECORD_BYTES, Files.size(bin));
+
+        Path csv = dir.resolve("r.csv");
+        assertEquals(3, BinaryResultsExporter.export(bin, csv));
+        List<String> lines = Files.readAllLines(csv);
+        assertEquals("Boyer_Moore,100,1.5,10,20,30,", lines.get(1));
+        assertEquals("A_name_that_is_definitely_longer,5000000000,4.2E-5,1,2,3,", lines.get(2));
+        assertEquals("appended,7,8.0E-6,9,10,11,", lines.get(3));
+    }
+
+    @Test
+    void testBinaryRejectsForeignFiles() throws IOException {
+        Path other = dir.resolve("other.bin");
+        Files.writeString(other, "not a results file");
+        assertThrows(IOException.class, () -> new BinaryResultLogger(other, true));
+        assertThrows(IOException.class, () -> BinaryResultsExporter.export(other, dir.resolve("o.csv")));
+
+        Path bin = dir.resolve("r.bin");
+        try (BinaryResultLogger logger = new BinaryResultLogger(bin, false)) {
+            logger.logResult("x", 1, 1, 1, 1, 1);
+        }
+        byte[] bytes = Files.readAllBytes(bin);
+        Files.write(bin, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> BinaryResultsExporter.export(bin, dir.resolve("t.csv")));
+    }
+
+    /** Collects rows in memory; optionally holds the writer thread until released. */
+    private static final class RecordingLogger implements ResultLogger {
+        final List<String> rows = new ArrayList<>();
+        final CountDownLatch release;
+        int flushes;
+
+        RecordingLogger(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void logResult(String algorithmName, long n, long elapsedNanos,
+                                           long comparisons, long arrayAccesses, long assignments) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            rows.add(algorithmName + ":" + n);
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void testAsyncKeepsOrderAndGroupsCommits() throws IOException {
+        Metrics metrics = new CountingMetrics();
+        RecordingLogger target = new RecordingLogger(new CountDownLatch(0));
+        try (AsyncResultLogger logger = new AsyncResultLogger(target, 8, false, metrics)) {
+            for (int i = 0; i < 1000; i++) {
+                logger.logResult("r", i, i, 0, 0, 0);
+            }
+            logger.flush();
+            synchronized (target) {
+                assertEquals(1000, target.rows.size());
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals("r:" + i, target.rows.get(i));
+                }
+            }
+        }
+        assertEquals(1000, metrics.getCounter(AsyncResultLogger.WRITTEN));
+        assertEquals(0, metrics.getCounter(AsyncResultLogger.DROPPED));
+        assertTrue(metrics.getCounter(AsyncResultLogger.BATCHES) >= 1);
+        assertEquals(metrics.getCounter(AsyncResultLogger.BATCHES), target.flushes);
+    }
+
+    @Test
+    void testAsyncDropsWhenFull() throws IOException {
+        Metrics metrics = new CountingMetrics();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingLogger target = new RecordingLogger(release);
+        AsyncResultLogger logger = new AsyncResultLogger(target, 2, true, metrics);
+        //the writer takes at most one batch of 2 and then blocks in the target; 2 more fit in the ring
+        for (int i = 0; i < 10; i++) {
+            logger.logResult("r", i, 0, 0, 0, 0);
+        }
+        release.countDown();
+        logger.close();
+        long dropped = metrics.getCounter(AsyncResultLogger.DROPPED);
+        assertTrue(dropped >= 6, "dropped=" + dropped);
+        assertEquals(10 - dropped, target.rows.size());
+        assertEquals(10 - dropped, metrics.getCounter(AsyncResultLogger.WRITTEN));
+    }
+
+    @Test
+    void testAsyncBlocksWhenFull() throws Exception {
+        Metrics metrics = new StripedMetrics();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingLogger target = new RecordingLogger(release);
+        AsyncResultLogger logger = new AsyncResultLogger(target, 1, false, metrics);
+        Thread producer = Thread.ofPlatform().start(() -> {
+            try {
+                for (int i = 0; i < 5; i++) {
+                    logger.logResult("r", i, 0, 0, 0, 0);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        release.countDown();
+        producer.join();
+        logger.close();
+        assertEquals(5, target.rows.size());
+        assertTrue(metrics.getCounter(AsyncResultLogger.BLOCKED) >= 1);
+        assertEquals(0, metrics.getCounter(AsyncResultLogger.DROPPED));
+    }
+
+    @Test
+    void testAsyncSurfacesWriterErrors() {
+        ResultLogger failing = new ResultLogger() {
+            @Override
+            public void logResult(String algorithmName, long n, long elapsedNanos,
+                                  long comparisons, long arrayAccesses, long assignments) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncResultLogger logger = new AsyncResultLogger(failing, 4, false, null);
+        assertDoesNotThrow(() -> logger.logResult("r", 1, 1, 0, 0, 0));
+        IOException e = assertThrows(IOException.class, logger::flush);
+        assertEquals("disk full", e.getMessage());
+        assertThrows(IOException.class, logger::close);
+    }
+
+    @Test
+    void testAsyncSurfacesRuntimeExceptionsFromDelegate() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            // the binary logger throws a NullPointerException for a null name
+            AsyncResultLogger logger = new AsyncResultLogger(
+                    new BinaryResultLogger(dir.resolve("npe.bin"), false), 4, false, null);
+            logger.logResult(null, 1, 1, 0, 0, 0);
+            IOException e = assertThrows(IOException.class, logger::flush);
+            assertInstanceOf(NullPointerException.class, e.getCause());
+            assertThrows(IOException.class, () -> logger.logResult("r", 1, 1, 0, 0, 0));
+            assertThrows(IOException.class, logger::close);
+        });
+    }
+
+    @Test
+    void testAsyncSurfacesErrorsFromDelegate() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            CountDownLatch release = new CountDownLatch(1);
+            ResultLogger overflowing = new ResultLogger() {
+                @Override
+                public void logResult(String algorithmName, long n, long elapsedNanos,
+                                      long comparisons, long arrayAccesses, long assignments) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new StackOverflowError("deep row");
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            AsyncResultLogger logger = new AsyncResultLogger(overflowing, 1, false, null);
+            // the writer takes the first row and waits in the delegate; the second fills the ring
+            // and the third blocks until the Error releases it
+            IOException[] blocked = new IOException[1];
+            Thread producer = Thread.ofPlatform().start(() -> {
+                try {
+                    for (int i = 0; i < 3; i++) {
+                        logger.logResult("r", i, 0, 0, 0, 0);
+                    }
+                } catch (IOException e) {
+                    blocked[0] = e;
+                }
+            });
+            Thread.sleep(100);
+            release.countDown();
+            producer.join();
+            assertNotNull(blocked[0], "a blocked logResult must fail once the writer dies");
+            assertInstanceOf(StackOverflowError.class, blocked[0].getCause());
+            IOException e = assertThrows(IOException.class, logger::flush);
+            assertInstanceOf(StackOverflowError.class, e.getCause());
+            assertThrows(IOException.class, logger::close);
+        });
+    }
+}